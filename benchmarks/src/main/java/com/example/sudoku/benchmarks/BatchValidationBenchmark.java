@@ -0,0 +1,129 @@
+package com.example.sudoku.benchmarks;
+
+import com.example.sudoku.models.Board;
+import com.example.sudoku.models.Difficulty;
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.Sudoku;
+import com.example.sudoku.models.validation.BatchValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class measures the time to check one complete board: loading it into a {@link Board}, which checks
+ * every placement, against the scalar and vector {@link BatchValidator}s. One board in four has two cells
+ * swapped, so the results are not all the same. The fork adds the {@code jdk.incubator.vector} module.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@OperationsPerInvocation(BatchValidationBenchmark.BOARDS)
+public class BatchValidationBenchmark {
+    static final int BOARDS = 1024;
+
+    @Param({"2x3", "3x3", "4x4"})
+    public String geometry;
+
+    private Board board;
+    private byte[][] grids;
+    private byte[] boards;
+    private byte[] blocks;
+    private byte[] vectorBlocks;
+    private BatchValidator scalar;
+    private BatchValidator vector;
+    private final boolean[] results = new boolean[BOARDS];
+
+    /**
+     * Builds the boards in both layouts and the validators.
+     */
+    @Setup
+    public void setup() {
+        Geometry shape = Geometry.parse(geometry);
+        int cells = shape.getCellCount();
+        board = new Board(shape);
+        grids = new byte[BOARDS][cells];
+        boards = new byte[BOARDS * cells];
+
+        SplittableRandom rand = new SplittableRandom(42);
+        for (int k = 0; k < BOARDS; k++) {
+            Sudoku sudoku = new Sudoku(k, shape, Difficulty.EASY);
+            for (int cell = 0; cell < cells; cell++) {
+                grids[k][cell] = (byte) sudoku.getNumber(shape.rowOf(cell), shape.colOf(cell));
+            }
+            if (k % 4 == 3) {
+                int i = rand.nextInt(cells);
+                int j = rand.nextInt(cells);
+                byte n = grids[k][i];
+                grids[k][i] = grids[k][j];
+                grids[k][j] = n;
+            }
+            System.arraycopy(grids[k], 0, boards, k * cells, cells);
+        }
+
+        scalar = BatchValidator.scalar(shape);
+        vector = BatchValidator.create(shape);
+        blocks = new byte[scalar.packedLength(BOARDS)];
+        scalar.pack(boards, BOARDS, blocks);
+        vectorBlocks = new byte[vector.packedLength(BOARDS)];
+        vector.pack(boards, BOARDS, vectorBlocks);
+    }
+
+    /**
+     * Loads every board into a {@link Board}, the check available before batch validation.
+     * @return Number of correct boards.
+     */
+    @Benchmark
+    public int boardLoad() {
+        int valid = 0;
+        for (byte[] grid : grids) {
+            if (board.load(grid) && board.getFilled() == grid.length) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Checks the boards one after the other with the scalar validator.
+     * @return Number of correct boards.
+     */
+    @Benchmark
+    public int scalar() {
+        return scalar.validate(boards, BOARDS, results);
+    }
+
+    /**
+     * Checks the packed blocks with the scalar validator.
+     * @return Number of correct boards.
+     */
+    @Benchmark
+    public int scalarBlocks() {
+        return scalar.validateBlocks(blocks, BOARDS, results);
+    }
+
+    /**
+     * Checks the packed blocks with {@link BatchValidator#create(Geometry)}, on vector lanes when available.
+     * @return Number of correct boards.
+     */
+    @Benchmark
+    public int vectorBlocks() {
+        return vector.validateBlocks(vectorBlocks, BOARDS, results);
+    }
+}
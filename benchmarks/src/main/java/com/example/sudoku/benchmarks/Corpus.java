@@ -0,0 +1,40 @@
+package com.example.sudoku.benchmarks;
+
+import com.example.sudoku.models.Difficulty;
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.Sudoku;
+
+/**
+ * This class builds the fixed puzzle corpora shared by the benchmarks.
+ * Puzzles come from the seeds 0 to count - 1, so every run measures the same boards.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+final class Corpus {
+    private Corpus() {
+    }
+
+    /**
+     * Builds the givens of a corpus, one array per puzzle with 0 for the empty cells.
+     * @param geometry Shape of the puzzles.
+     * @param difficulty Difficulty of the puzzles.
+     * @param count Number of puzzles.
+     * @return The givens, row by row.
+     */
+    static byte[][] givens(Geometry geometry, Difficulty difficulty, int count) {
+        byte[][] corpus = new byte[count][geometry.getCellCount()];
+
+        for (int i = 0; i < count; i++) {
+            Sudoku sudoku = new Sudoku(i, geometry, difficulty);
+            for (int cell = 0; cell < geometry.getCellCount(); cell++) {
+                int row = geometry.rowOf(cell);
+                int col = geometry.colOf(cell);
+                if (sudoku.isGiven(row, col)) {
+                    corpus[i][cell] = (byte) sudoku.getNumber(row, col);
+                }
+            }
+        }
+
+        return corpus;
+    }
+}
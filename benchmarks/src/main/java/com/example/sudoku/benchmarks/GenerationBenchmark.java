@@ -0,0 +1,86 @@
+package com.example.sudoku.benchmarks;
+
+import com.example.sudoku.models.Difficulty;
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.PuzzleCarver;
+import com.example.sudoku.models.Sudoku;
+import com.example.sudoku.models.solver.Engine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class measures how many complete grids and carved puzzles can be generated per second.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerationBenchmark {
+    @Param({"2x2", "2x3", "3x3", "4x4"})
+    public String geometry;
+
+    @Param({"BACKTRACKING", "PROPAGATION", "DANCING_LINKS"})
+    public String engine;
+
+    private Geometry shape;
+    private Engine selected;
+    private Sudoku grid;
+    private PuzzleCarver carver;
+    private SplittableRandom rand;
+    private long seed;
+
+    /**
+     * Builds the geometry, a complete grid to carve and a carver for the selected engine.
+     */
+    @Setup
+    public void setup() {
+        shape = Geometry.parse(geometry);
+        selected = Engine.valueOf(engine);
+        grid = new Sudoku(shape, selected);
+        carver = new PuzzleCarver(shape, Difficulty.MEDIUM.targetClues(shape), Difficulty.MEDIUM.symmetry(), selected);
+        rand = new SplittableRandom(42);
+    }
+
+    /**
+     * Generates a complete grid, the work done by {@code new Sudoku()}.
+     * @return The grid.
+     */
+    @Benchmark
+    public Sudoku generate() {
+        return new Sudoku(shape, selected);
+    }
+
+    /**
+     * Carves givens out of the same complete grid, one uniqueness check per tried removal.
+     * @return The number of givens left.
+     */
+    @Benchmark
+    public int carve() {
+        return carver.carve(grid, rand);
+    }
+
+    /**
+     * Generates a seeded puzzle, fill and carving included.
+     * @return The puzzle.
+     */
+    @Benchmark
+    public Sudoku generateSeeded() {
+        return new Sudoku(seed++, shape, Difficulty.MEDIUM);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.sudoku.benchmarks;
+
+import com.example.sudoku.models.Board;
+import com.example.sudoku.models.Difficulty;
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.solver.Engine;
+import com.example.sudoku.models.solver.Solver;
+import com.example.sudoku.models.solver.SolverContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class measures full-solve and uniqueness-check latency on a fixed corpus of hard puzzles.
+ * Each call loads the next puzzle of the corpus into the board of a leased {@link SolverContext} before
+ * searching; run it with {@code -prof gc} to check that a search allocates nothing.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SolveBenchmark {
+    private static final int CORPUS_SIZE = 32;
+
+    @Param({"2x2", "2x3", "3x3"})
+    public String geometry;
+
+    @Param({"BACKTRACKING", "PROPAGATION", "DANCING_LINKS"})
+    public String engine;
+
+    private byte[][] corpus;
+    private SolverContext context;
+    private Board board;
+    private Solver solver;
+    private int next;
+
+    /**
+     * Builds the corpus and leases the context.
+     */
+    @Setup
+    public void setup() {
+        Geometry shape = Geometry.parse(geometry);
+        corpus = Corpus.givens(shape, Difficulty.HARD, CORPUS_SIZE);
+        context = SolverContext.lease(shape, Engine.valueOf(engine));
+        board = context.getBoard();
+        solver = context.getSolver();
+    }
+
+    /**
+     * Gives the context back.
+     */
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Solves the next puzzle of the corpus.
+     * @return Whether it was solved.
+     */
+    @Benchmark
+    public boolean solve() {
+        board.load(corpus[next++ % CORPUS_SIZE]);
+        return solver.solve(board);
+    }
+
+    /**
+     * Checks that the next puzzle of the corpus has a single solution.
+     * @return The number of solutions, at most 2.
+     */
+    @Benchmark
+    public int countSolutions() {
+        board.load(corpus[next++ % CORPUS_SIZE]);
+        return solver.countSolutions(board, 2);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.sudoku.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * This class measures the time from launching the game to its first frame, each invocation starting a new
+ * JVM with {@code -Dsudoku.startup.exit=true} and stopping when the game reports the frame. It needs a
+ * display and the output of {@code mvn -Pstartup package} in the directory named by the {@code sudoku.app}
+ * system property, {@code sudoku-app/target} by default. The archive parameter compares the JDK's default
+ * class data sharing, the archive of the game, and no sharing at all. Every run starts a new game.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StartupBenchmark {
+    private static final String FIRST_FRAME = "First frame";
+
+    @Param({"jdk", "app", "off"})
+    public String archive;
+
+    private List<String> command;
+    private Path journal;
+    private Process process;
+
+    /**
+     * Builds the launch command from the packaged game.
+     * @throws IOException if the game has not been packaged with the startup profile.
+     */
+    @Setup
+    public void setup() throws IOException {
+        Path app = Path.of(System.getProperty("sudoku.app", "sudoku-app/target"));
+        Path modulePath = app.resolve("modulepath.txt");
+        Path jsa = app.resolve("sudoku.jsa");
+        if (!Files.exists(modulePath) || (archive.equals("app") && !Files.exists(jsa))) {
+            throw new IllegalStateException("Run mvn -Pstartup package first, nothing found in " + app.toAbsolutePath());
+        }
+
+        Path jar;
+        try (Stream<Path> jars = Files.list(app)) {
+            jar = jars.filter(path -> path.getFileName().toString().matches("sudoku-.*\\.jar")).findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No game jar in " + app.toAbsolutePath()));
+        }
+        journal = Files.createTempFile("sudoku-startup", ".bin");
+
+        command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        switch (archive) {
+            case "app" -> command.add("-XX:SharedArchiveFile=" + jsa);
+            case "off" -> command.add("-Xshare:off");
+            default -> { }
+        }
+        command.add("-Dsudoku.startup.exit=true");
+        command.add("-Dsudoku.journal=" + journal);
+        command.add("--module-path");
+        command.add(jar + File.pathSeparator + Files.readString(modulePath).trim());
+        command.add("--module");
+        command.add("com.example.sudoku/com.example.sudoku.Main");
+    }
+
+    /**
+     * Removes the journal of the previous run, so the game starts from the bundled pool.
+     * @throws IOException if the journal cannot be deleted.
+     */
+    @Setup(Level.Invocation)
+    public void newGame() throws IOException {
+        Files.deleteIfExists(journal);
+    }
+
+    /**
+     * Launches the game and waits for its first frame.
+     * @return The line the game printed.
+     * @throws IOException if the game cannot be launched or exits before its first frame.
+     */
+    @Benchmark
+    public String firstFrame() throws IOException {
+        process = new ProcessBuilder(command).redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+
+        BufferedReader errors = new BufferedReader(new InputStreamReader(process.getErrorStream(), StandardCharsets.UTF_8));
+        for (String line = errors.readLine(); line != null; line = errors.readLine()) {
+            if (line.startsWith(FIRST_FRAME)) {
+                return line;
+            }
+        }
+        throw new IOException("The game exited before its first frame: " + command);
+    }
+
+    /**
+     * Waits for the game to exit, outside of the measurement.
+     * @throws IOException if its output cannot be closed.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    @TearDown(Level.Invocation)
+    public void exit() throws IOException, InterruptedException {
+        if (process != null) {
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+            process.getErrorStream().close();
+        }
+    }
+
+    /**
+     * Deletes the journal.
+     * @throws IOException if the journal cannot be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(journal);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.sudoku.benchmarks;
+
+import com.example.sudoku.models.Board;
+import com.example.sudoku.models.Difficulty;
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.Sudoku;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class measures the latency of a single validity check and of reading a cell.
+ * Probes are precomputed so that the measured call is the only work done.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+    private static final int PROBES = 1024;
+
+    @Param({"2x3", "3x3", "4x4", "5x5"})
+    public String geometry;
+
+    private Sudoku sudoku;
+    private Board puzzle;
+    private final int[] rows = new int[PROBES];
+    private final int[] cols = new int[PROBES];
+    private final int[] cells = new int[PROBES];
+    private final int[] numbers = new int[PROBES];
+    private int next;
+
+    /**
+     * Builds a complete grid, a half-filled board and the probes.
+     */
+    @Setup
+    public void setup() {
+        Geometry shape = Geometry.parse(geometry);
+        sudoku = new Sudoku(shape);
+        puzzle = new Board(shape);
+        puzzle.load(Corpus.givens(shape, Difficulty.EASY, 1)[0]);
+
+        SplittableRandom rand = new SplittableRandom(42);
+        for (int i = 0; i < PROBES; i++) {
+            rows[i] = rand.nextInt(shape.getSize());
+            cols[i] = rand.nextInt(shape.getSize());
+            cells[i] = shape.cellIndex(rows[i], cols[i]);
+            numbers[i] = rand.nextInt(shape.getSize()) + 1;
+        }
+    }
+
+    /**
+     * Calls {@code Sudoku.isValid} on the complete grid.
+     * @return The answer.
+     */
+    @Benchmark
+    public boolean sudokuIsValid() {
+        int i = next++ & (PROBES - 1);
+        return sudoku.isValid(rows[i], cols[i], numbers[i]);
+    }
+
+    /**
+     * Calls {@code Board.isValid} on a half-filled board.
+     * @return The answer.
+     */
+    @Benchmark
+    public boolean boardIsValid() {
+        int i = next++ & (PROBES - 1);
+        return puzzle.isValid(cells[i], numbers[i]);
+    }
+
+    /**
+     * Calls {@code Sudoku.getNumber}.
+     * @return The number.
+     */
+    @Benchmark
+    public int getNumber() {
+        int i = next++ & (PROBES - 1);
+        return sudoku.getNumber(rows[i], cols[i]);
+    }
+}
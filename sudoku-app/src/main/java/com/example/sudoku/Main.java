@@ -0,0 +1,53 @@
+package com.example.sudoku;
+
+import com.example.sudoku.metrics.Metrics;
+import com.example.sudoku.views.GameView;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.stage.Stage;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * This class is the main class of the program.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class Main extends Application {
+    /**
+     * System property that makes the game print the time to its first frame and exit, used to measure the
+     * startup and to train the class data sharing archive.
+     */
+    public static final String STARTUP_EXIT_PROPERTY = "sudoku.startup.exit";
+
+    /**
+     * Main method, where the execution of the program begins.
+     * @param args Arguments.
+     */
+    public static void main(String[] args) {
+        launch();
+    }
+
+    @Override
+    public void start(Stage primaryStage) {
+        GameView view = GameView.getInstance();
+
+        if (Boolean.getBoolean(STARTUP_EXIT_PROPERTY)) {
+            view.setOnFirstFrame(() -> {
+                System.err.println("First frame after " + ManagementFactory.getRuntimeMXBean().getUptime() + " ms");
+                Platform.exit();
+            });
+        }
+    }
+
+    /**
+     * Saves the game being played and prints the collected metrics when collection is on.
+     */
+    @Override
+    public void stop() {
+        GameView.getInstance().getController().saveGame();
+        if (Metrics.isEnabled()) {
+            System.err.print(Metrics.report());
+        }
+    }
+}
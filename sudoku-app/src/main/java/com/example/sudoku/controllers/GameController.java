@@ -0,0 +1,522 @@
+package com.example.sudoku.controllers;
+
+import com.example.sudoku.metrics.Histogram;
+import com.example.sudoku.metrics.Metrics;
+import com.example.sudoku.models.Difficulty;
+import com.example.sudoku.models.GameState;
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.PuzzlePrefetcher;
+import com.example.sudoku.models.Sudoku;
+import com.example.sudoku.models.grading.Hint;
+import com.example.sudoku.models.grading.HintEngine;
+import com.example.sudoku.models.io.MoveJournal;
+import com.example.sudoku.models.io.PuzzlePool;
+import com.example.sudoku.models.solver.Progress;
+import com.example.sudoku.models.solver.ProgressChecker;
+import com.example.sudoku.views.alert.AlertBox;
+import com.example.sudoku.views.board.BoardView;
+import com.example.sudoku.views.board.CanvasBoardView;
+import com.example.sudoku.views.board.GridBoardView;
+import javafx.application.Platform;
+import javafx.scene.Cursor;
+import javafx.scene.control.Alert;
+import javafx.scene.layout.StackPane;
+import jdk.jfr.EventType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This class is the controller for the Game window.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class GameController {
+    private StackPane sudoku;
+    private BoardView boardView;
+    private Sudoku sudokuGame;
+    private GameState gameState;
+    private HintEngine hintEngine;
+    private PuzzlePrefetcher prefetcher;
+    private MoveJournal journal;
+    private boolean loading;
+    private final ProgressChecker progressChecker = new ProgressChecker(GEOMETRY);
+    private final byte[] grid = new byte[GEOMETRY.getCellCount()];
+    private final AlertBox alertBox = new AlertBox();
+    private final Random rand = new Random();
+
+    private static final Geometry GEOMETRY = Geometry.SIX;
+    private static final int SIZE = GEOMETRY.getSize();
+    private static final Difficulty DIFFICULTY = Difficulty.MEDIUM;
+    private static final String POOL_PROPERTY = "sudoku.pool";
+    private static final String VIEW_PROPERTY = "sudoku.view";
+    private static final String JOURNAL_PROPERTY = "sudoku.journal";
+
+    /**
+     * Pool of puzzles bundled with the game, from which the first puzzle is drawn without generating it.
+     */
+    private static final String BUNDLED_POOL = "/com/example/sudoku/pools/" + GEOMETRY + "-" + DIFFICULTY + ".pool";
+
+    /**
+     * Number of puzzles generated ahead of time for the next restarts.
+     */
+    private static final int PREFETCH = 2;
+
+    /**
+     * Largest board size still drawn with one TextField per cell when no view is chosen.
+     */
+    private static final int MAX_GRID_VIEW_SIZE = 9;
+
+    private static final EventType HANDLER_EVENT = EventType.getEventType(HandlerEvent.class);
+    private static final Histogram INPUT_HANDLER = Metrics.histogram("ui.input.nanos");
+    private static final Histogram HINT_HANDLER = Metrics.histogram("ui.hint.nanos");
+    private static final Histogram RESTART_HANDLER = Metrics.histogram("ui.restart.nanos");
+    private static final Histogram UNDO_HANDLER = Metrics.histogram("ui.undo.nanos");
+    private static final Histogram REDO_HANDLER = Metrics.histogram("ui.redo.nanos");
+
+    /**
+     * This method initializes the Sudoku board and UI components, resuming the game of the journal if it
+     * was not finished and otherwise starting a puzzle of the bundled pool.
+     *
+     * @param sudoku The pane that holds the board.
+     */
+    public void initialize(StackPane sudoku) {
+        this.sudoku = sudoku;
+        setupSudokuBoard();
+        if (!resumeGame()) {
+            startGame(firstSudoku());
+        }
+    }
+
+    /**
+     * Starts generating the puzzles of the next restarts in the background, called once the window is shown
+     * so that the generation does not compete with the startup.
+     */
+    public void startPrefetching() {
+        if (prefetcher == null) {
+            prefetcher = new PuzzlePrefetcher(this::nextSudoku, PREFETCH);
+        }
+    }
+
+    /**
+     * Draws a random puzzle from the bundled pool, or gets one like the next games if it cannot be read.
+     *
+     * @return The first puzzle to play.
+     */
+    private Sudoku firstSudoku() {
+        try (InputStream in = GameController.class.getResourceAsStream(BUNDLED_POOL)) {
+            if (in != null) {
+                try (PuzzlePool puzzlePool = new PuzzlePool(ByteBuffer.wrap(in.readAllBytes()), BUNDLED_POOL)) {
+                    if (puzzlePool.getGeometry().equals(GEOMETRY) && puzzlePool.size() > 0) {
+                        return puzzlePool.get(rand.nextLong(puzzlePool.size()));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // Fall back to the usual source.
+        }
+
+        return nextSudoku();
+    }
+
+    /**
+     * Starts playing a puzzle on the current board view, with a new journal.
+     *
+     * @param puzzle The puzzle to play.
+     */
+    private void startGame(Sudoku puzzle) {
+        closeJournal();
+        try {
+            journal = MoveJournal.create(journalPath(), puzzle);
+        } catch (IOException e) {
+            // Play without saving.
+        }
+
+        showGame(puzzle);
+    }
+
+    /**
+     * Resumes the game recorded in the journal file named by the {@value #JOURNAL_PROPERTY} system property,
+     * by default {@code .sudoku/journal.bin} in the user's home.
+     *
+     * @return true if an unfinished game of the current geometry was resumed.
+     */
+    private boolean resumeGame() {
+        try {
+            journal = MoveJournal.open(journalPath());
+        } catch (IOException e) {
+            return false;
+        }
+
+        Sudoku puzzle = journal.getSudoku();
+        if (puzzle.getGeometry().equals(GEOMETRY)) {
+            showGame(puzzle);
+            if (!win()) {
+                return true;
+            }
+        }
+
+        closeJournal();
+        return false;
+    }
+
+    /**
+     * Shows a puzzle with the numbers of the journal, if there is one, on the current board view.
+     *
+     * @param puzzle The puzzle to play.
+     */
+    private void showGame(Sudoku puzzle) {
+        sudokuGame = puzzle;
+        gameState = new GameState(sudokuGame);
+        if (journal != null) {
+            for (int cell = 0; cell < GEOMETRY.getCellCount(); cell++) {
+                if (!gameState.isGiven(cell)) {
+                    gameState.set(cell, journal.get(cell));
+                }
+            }
+        }
+
+        hintEngine = null;
+        showInitialSudoku();
+    }
+
+    /**
+     * @return The journal file.
+     */
+    private static Path journalPath() {
+        String journal = System.getProperty(JOURNAL_PROPERTY);
+        return journal != null ? Path.of(journal) : Path.of(System.getProperty("user.home"), ".sudoku", "journal.bin");
+    }
+
+    /**
+     * Writes the moves still buffered by the journal to its file, called when the window closes.
+     */
+    public void saveGame() {
+        if (journal != null) {
+            try {
+                journal.flush();
+            } catch (IOException e) {
+                closeJournal();
+            }
+        }
+    }
+
+    /**
+     * Closes the journal, if there is one, and stops saving moves.
+     */
+    private void closeJournal() {
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                // The game goes on without saving.
+            }
+            journal = null;
+        }
+    }
+
+    /**
+     * Draws a random puzzle from the pool file named by the {@value #POOL_PROPERTY} system property, or
+     * generates one when no usable pool is configured. Called from the prefetch thread.
+     *
+     * @return The puzzle to play.
+     */
+    private Sudoku nextSudoku() {
+        String pool = System.getProperty(POOL_PROPERTY);
+
+        if (pool != null) {
+            try (PuzzlePool puzzlePool = new PuzzlePool(Path.of(pool))) {
+                if (puzzlePool.getGeometry().equals(GEOMETRY) && puzzlePool.size() > 0) {
+                    return puzzlePool.get(rand.nextLong(puzzlePool.size()));
+                }
+            } catch (IOException e) {
+                // Fall back to generating the puzzle.
+            }
+        }
+
+        return new Sudoku(rand.nextLong(), GEOMETRY, DIFFICULTY);
+    }
+
+    /**
+     * Sets up the Sudoku board view. The {@value #VIEW_PROPERTY} system property selects the view: "canvas"
+     * draws the board on a single Canvas and "grid" uses one TextField per cell. Without it, boards larger
+     * than {@value #MAX_GRID_VIEW_SIZE}x{@value #MAX_GRID_VIEW_SIZE} use the Canvas.
+     */
+    private void setupSudokuBoard() {
+        String view = System.getProperty(VIEW_PROPERTY, SIZE > MAX_GRID_VIEW_SIZE ? "canvas" : "grid");
+
+        if (view.equals("canvas")) {
+            boardView = new CanvasBoardView(GEOMETRY, sudoku.getPrefWidth());
+        } else {
+            boardView = new GridBoardView(GEOMETRY);
+        }
+
+        boardView.setInputHandler(this::handleInputField);
+        sudoku.getChildren().add(boardView.getNode());
+    }
+
+    /**
+     * Shows the initial Sudoku by filling in the givens of the puzzle.
+     */
+    public void showInitialSudoku() {
+        boardView.show(gameState);
+    }
+
+    /**
+     * Handles the event when the hint button is pressed, suggesting a number or taking back one that no
+     * solution goes through.
+     */
+    public void onHandleHintButton() {
+        HandlerEvent event = beginHandler();
+        long start = Metrics.start();
+
+        if (hintEngine == null) {
+            hintEngine = new HintEngine(gameState);
+        }
+        Hint hint = hintEngine.next();
+        if (hint != null && hint.isRemoval()) {
+            handleInvalidInput(hint.getCell(), hint.getValue());
+            recordMove(hint.getCell());
+        } else if (hint != null) {
+            boardView.showHint(hint.getCell(), hint.getValue());
+        }
+
+        endHandler(event, start, HINT_HANDLER, "hint");
+        if (hint == null) {
+            alertBox.showAlert(Alert.AlertType.ERROR, "Sudoku - Information", "Ops!", "There are no numbers available to suggest to you.");
+        }
+    }
+
+    /**
+     * Checks if the game has been won.
+     * @return true if the game is won, false otherwise.
+     */
+    public boolean win() {
+        return gameState.isSolved();
+    }
+
+    /**
+     * Handles the event when the help button is pressed.
+     */
+    public void onHandleHelpButton() {
+        alertBox.showAlert(Alert.AlertType.INFORMATION, "Sudoku - Help", "Instructions", """
+                Objective: Fill the grid so that each row, column, and %1$s box contains the numbers 1 to %2$d without repetition.
+                
+                Rules:
+                Each number (1-%2$d) must appear exactly once in each row.
+                Each number (1-%2$d) must appear exactly once in each column.
+                Each number (1-%2$d) must appear exactly once in each %1$s box.
+                
+                Winning the Game: The game is complete when the entire grid is filled correctly following the rules.""".formatted(GEOMETRY, SIZE));
+    }
+
+    /**
+     * Handles the event when the restart button is pressed.
+     * Prompts the user for confirmation to restart the game.
+     * If confirmed, it shows the next prefetched puzzle on the current board, or locks the board until a
+     * refill has one ready. Nothing is generated on the FX thread.
+     */
+    public void onHandleRestartButton() {
+        if (loading) {
+            return;
+        }
+
+        boolean decision = alertBox.showAlert(Alert.AlertType.CONFIRMATION, "Sudoku - Game Start Confirmation", "Do you want to start playing?", "Click \"OK\" to start playing.");
+
+        if (decision) {
+            HandlerEvent event = beginHandler();
+            long start = Metrics.start();
+            startPrefetching();
+            CompletableFuture<Sudoku> next = prefetcher.takeLater();
+            if (next.isDone() && !next.isCompletedExceptionally()) {
+                startGame(next.join());
+            } else {
+                startWhenReady(next);
+            }
+            endHandler(event, start, RESTART_HANDLER, "restart");
+        }
+    }
+
+    /**
+     * Locks the board with a wait cursor until the next puzzle is ready, then starts it on the FX thread. If
+     * the refill fails, {@link #nextSudoku()} builds the puzzle on a background thread instead.
+     *
+     * @param next The puzzle the prefetcher will complete.
+     */
+    private void startWhenReady(CompletableFuture<Sudoku> next) {
+        loading = true;
+        boardView.setEditable(false);
+        sudoku.setCursor(Cursor.WAIT);
+
+        next.exceptionallyAsync(e -> nextSudoku()).thenAccept(puzzle -> Platform.runLater(() -> {
+            loading = false;
+            sudoku.setCursor(Cursor.DEFAULT);
+            startGame(puzzle);
+        }));
+    }
+
+    /**
+     * Handles input changes in the Sudoku cells.
+     * Validates the new value entered in a cell, then shows the error or win message if there is one.
+     *
+     * @param cell The cell being modified.
+     * @param value The new value entered by the user, 0 if the cell was emptied.
+     */
+    public void handleInputField(int cell, int value) {
+        if (gameState.isGiven(cell)) {
+            return;
+        }
+
+        HandlerEvent event = beginHandler();
+        long start = Metrics.start();
+        boolean invalid = false;
+
+        if (value == 0) {
+            gameState.set(cell, 0);
+        } else {
+            try {
+                validateInput(cell, value);
+            } catch (IllegalArgumentException e) {
+                handleInvalidInput(cell, value);
+                invalid = true;
+            }
+        }
+
+        recordMove(cell);
+        endHandler(event, start, INPUT_HANDLER, "input");
+        if (invalid) {
+            alertBox.showAlert(Alert.AlertType.ERROR, "Sudoku - Error", "Something went wrong", "Invalid input: " + value);
+        } else if (value != 0 && win()) {
+            alertBox.showAlert(Alert.AlertType.INFORMATION, "Sudoku - Win", "Congratulations!", "You won! You completed the Sudoku.");
+        }
+    }
+
+    /**
+     * Handles the event when the undo button is pressed, taking back the last move.
+     */
+    public void onHandleUndoButton() {
+        HandlerEvent event = beginHandler();
+        long start = Metrics.start();
+
+        try {
+            replayMove(journal == null ? -1 : journal.undo());
+        } catch (IOException e) {
+            closeJournal();
+        }
+
+        endHandler(event, start, UNDO_HANDLER, "undo");
+    }
+
+    /**
+     * Handles the event when the redo button is pressed, playing again the last move taken back.
+     */
+    public void onHandleRedoButton() {
+        HandlerEvent event = beginHandler();
+        long start = Metrics.start();
+
+        try {
+            replayMove(journal == null ? -1 : journal.redo());
+        } catch (IOException e) {
+            closeJournal();
+        }
+
+        endHandler(event, start, REDO_HANDLER, "redo");
+    }
+
+    /**
+     * Shows the number an undo or redo left in a cell, locking the board if that wins the game and unlocking
+     * it otherwise.
+     *
+     * @param cell The cell changed by the journal, -1 if nothing changed.
+     */
+    private void replayMove(int cell) {
+        if (cell >= 0) {
+            gameState.set(cell, journal.get(cell));
+            boardView.setEditable(!win());
+        }
+    }
+
+    /**
+     * Records the number an input left in a cell, once it has been validated.
+     *
+     * @param cell The cell edited.
+     */
+    private void recordMove(int cell) {
+        if (journal != null) {
+            try {
+                journal.record(cell, gameState.get(cell));
+            } catch (IOException e) {
+                closeJournal();
+            }
+        }
+    }
+
+    /**
+     * Validates the input value for a specific cell.
+     * Checks that the number repeats nothing in its row, column or box and that the board can still be
+     * completed, so any solution of the puzzle is accepted.
+     * If the game is won, locks the board.
+     *
+     * @param cell The cell being validated.
+     * @param value The new integer value entered.
+     */
+    private void validateInput(int cell, int value) {
+        gameState.set(cell, value);
+        gameState.copyTo(grid);
+        Progress progress = progressChecker.check(grid);
+
+        if (progress.isConflicting(cell) || !progress.isCompletable()) {
+            throw new IllegalArgumentException("The number in that position is invalid. Number: " + value);
+        }
+
+        if (win()) {
+            boardView.setEditable(false);
+        }
+    }
+
+    /**
+     * Handles invalid input by clearing the cell and marking the error on the board.
+     *
+     * @param cell The cell with invalid input.
+     * @param value The invalid value entered by the user.
+     */
+    private void handleInvalidInput(int cell, int value) {
+        gameState.set(cell, 0);
+        boardView.showError(cell, value);
+    }
+
+    /**
+     * Starts the Flight Recorder event of a handler.
+     *
+     * @return The started event, or null if no recording has the event enabled.
+     */
+    private static HandlerEvent beginHandler() {
+        if (!HANDLER_EVENT.isEnabled()) {
+            return null;
+        }
+
+        HandlerEvent event = new HandlerEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Records the time a handler kept the JavaFX thread busy, before any dialog is shown.
+     *
+     * @param event The event returned by {@link #beginHandler()}, may be null.
+     * @param start The value returned by {@link Metrics#start()}.
+     * @param histogram Histogram of the handler.
+     * @param handler Name of the handler.
+     */
+    private static void endHandler(HandlerEvent event, long start, Histogram histogram, String handler) {
+        histogram.recordSince(start);
+        if (event != null && event.shouldCommit()) {
+            event.handler = handler;
+            event.commit();
+        }
+    }
+}
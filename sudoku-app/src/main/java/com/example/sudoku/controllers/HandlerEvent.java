@@ -0,0 +1,24 @@
+package com.example.sudoku.controllers;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This class is the Flight Recorder event of the work a UI handler does on the JavaFX thread, without the
+ * time spent waiting on dialogs.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+@Name("com.example.sudoku.UiHandler")
+@Label("UI Handler")
+@Category({"Sudoku", "UI"})
+@Description("Work done by a UI handler on the JavaFX thread")
+@StackTrace(false)
+class HandlerEvent extends Event {
+    @Label("Handler")
+    String handler;
+}
@@ -0,0 +1,168 @@
+package com.example.sudoku.views;
+
+import com.example.sudoku.controllers.GameController;
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.image.Image;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.stage.Stage;
+
+/**
+ * This class generates the view of the Game. The scene is built in code rather than loaded from FXML, and
+ * what the first frame does not need, the window icon and the puzzles prefetched for the next games, is
+ * loaded once that frame has been drawn.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class GameView extends Stage {
+    private static final String DARK_BUTTON_STYLE = "-fx-background-color: #83625d; -fx-border-color: white; -fx-border-width: 3; -fx-border-radius: 3;";
+    private static final String LIGHT_BUTTON_STYLE = "-fx-background-color: white; -fx-border-color: white; -fx-border-width: 3; -fx-border-radius: 3;";
+
+    private final GameController controller = new GameController();
+    private Runnable onFirstFrame = () -> { };
+
+    /**
+     * This method creates the window and assigns the Game scene to it.
+     */
+    public GameView() {
+        StackPane board = new StackPane();
+        board.setMaxSize(360, 360);
+        board.setPrefSize(360, 360);
+        board.setStyle("-fx-border-color: #9a4d03; -fx-border-width: 2px;");
+
+        Label title = new Label("SUDOKU");
+        title.setFont(Font.font("Comic Sans MS", FontWeight.BOLD, 48));
+
+        Label suggestion = new Label("If you need a suggestion, click the hint button.");
+        suggestion.setPrefSize(294, 50);
+        suggestion.setTextFill(Color.WHITE);
+        suggestion.setWrapText(true);
+        suggestion.setFont(Font.font(18));
+
+        HBox top = createBar("#9a4d03", suggestion,
+                createButton("HINT", 61, DARK_BUTTON_STYLE, Color.WHITE, controller::onHandleHintButton));
+        HBox bottom = createBar("#9f4b00",
+                createButton("RESTART", 102, LIGHT_BUTTON_STYLE, Color.web("#83625d"), controller::onHandleRestartButton),
+                createButton("UNDO", 72, LIGHT_BUTTON_STYLE, Color.web("#83625d"), controller::onHandleUndoButton),
+                createButton("REDO", 72, LIGHT_BUTTON_STYLE, Color.web("#83625d"), controller::onHandleRedoButton),
+                createButton("HELP", 61, LIGHT_BUTTON_STYLE, Color.web("#83625d"), controller::onHandleHelpButton));
+
+        VBox root = new VBox(20, title, top, board, bottom);
+        root.setAlignment(Pos.CENTER);
+        root.setMinSize(VBox.USE_PREF_SIZE, VBox.USE_PREF_SIZE);
+        root.setMaxSize(VBox.USE_PREF_SIZE, VBox.USE_PREF_SIZE);
+        root.setPrefSize(500, 630);
+        root.setStyle("-fx-background-color: #e5bf9a;");
+        root.setPadding(new Insets(20, 0, 0, 0));
+
+        controller.initialize(board);
+
+        this.setTitle("Sudoku - Play");
+        Scene scene = new Scene(root);
+        // Kept before the first frame: the cells take their size, font and colors from it, so deferring it
+        // would draw default cells and lay the board out again. Once the inline styles above have loaded the
+        // CSS parser, it costs about 15 ms on a cold JVM.
+        scene.getStylesheets().add(getClass().getResource("/com/example/sudoku/styles.css").toExternalForm());
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                Platform.runLater(GameView.this::firstFrameShown);
+            }
+        });
+        this.setScene(scene);
+        this.show();
+    }
+
+    /**
+     * @return The controller of the Game scene.
+     */
+    public GameController getController() {
+        return controller;
+    }
+
+    /**
+     * Sets the action run once the first frame of the window has been drawn.
+     * @param onFirstFrame The action.
+     */
+    public void setOnFirstFrame(Runnable onFirstFrame) {
+        this.onFirstFrame = onFirstFrame;
+    }
+
+    /**
+     * Loads what the first frame did not need.
+     */
+    private void firstFrameShown() {
+        this.getIcons().add(new Image(
+                getClass().getResourceAsStream("/com/example/sudoku/images/favicon.png")
+        ));
+        controller.startPrefetching();
+        onFirstFrame.run();
+    }
+
+    /**
+     * Creates one of the colored bars that hold the buttons.
+     * @param color Background color.
+     * @param children Nodes of the bar.
+     * @return The bar.
+     */
+    private static HBox createBar(String color, Node... children) {
+        HBox bar = new HBox(20, children);
+        bar.setAlignment(Pos.CENTER);
+        bar.setPrefSize(466, 63);
+        bar.setStyle("-fx-background-color: " + color + ";");
+        bar.setPadding(new Insets(0, 20, 0, 20));
+        return bar;
+    }
+
+    /**
+     * Creates a button.
+     * @param text Text of the button.
+     * @param width Preferred width.
+     * @param style Style of the button.
+     * @param textFill Color of the text.
+     * @param action Handler called when the button is pressed.
+     * @return The button.
+     */
+    private static Button createButton(String text, double width, String style, Color textFill, Runnable action) {
+        Button button = new Button(text);
+        button.setMnemonicParsing(false);
+        button.setPrefSize(width, 36);
+        button.setStyle(style);
+        button.setTextFill(textFill);
+        button.setFont(Font.font("System", FontWeight.BOLD, 14));
+        button.setOnAction(event -> action.run());
+        return button;
+    }
+
+    /**
+     * Retrieves the instance of GameView.
+     * If the instance does not exist, it creates a new one.
+     * @return The instance of GameView.
+     */
+    public static GameView getInstance() {
+        if (GameViewHolder.INSTANCE == null) {
+            return GameViewHolder.INSTANCE = new GameView();
+        }
+        else {
+            return GameViewHolder.INSTANCE;
+        }
+    }
+
+    /**
+     * Holder class for the instance of GameView.
+     */
+    private static class GameViewHolder {
+        private static GameView INSTANCE;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.sudoku.views.board;
+
+import com.example.sudoku.models.GameState;
+import javafx.scene.Node;
+
+/**
+ * This interface is used to implement the views that draw the Sudoku board. A view renders the numbers of a
+ * {@link GameState}, follows its changes, and reports what the player types through an {@link InputHandler}.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public interface BoardView {
+    /**
+     * This interface receives the numbers the player types into the board.
+     */
+    @FunctionalInterface
+    interface InputHandler {
+        /**
+         * Called when the player types into a cell.
+         * @param cell The cell index.
+         * @param value The number typed, 0 if the cell was emptied.
+         */
+        void onInput(int cell, int value);
+    }
+
+    /**
+     * @return The node to add to the scene.
+     */
+    Node getNode();
+
+    /**
+     * Sets the handler that receives the player's input.
+     * @param handler The handler.
+     */
+    void setInputHandler(InputHandler handler);
+
+    /**
+     * Draws every cell of a game, clearing any hints and errors of the previous one, makes the cells that are
+     * not givens editable and follows the changes of the game from then on.
+     * @param state The game to show.
+     */
+    void show(GameState state);
+
+    /**
+     * Suggests a number for an empty cell.
+     * @param cell The cell index.
+     * @param value The number to suggest.
+     */
+    void showHint(int cell, int value);
+
+    /**
+     * Empties a cell and marks the number the player typed as wrong.
+     * @param cell The cell index.
+     * @param value The rejected number.
+     */
+    void showError(int cell, int value);
+
+    /**
+     * Allows or blocks editing of the cells that are not givens.
+     * @param editable Whether the player can type into the board.
+     */
+    void setEditable(boolean editable);
+}
@@ -0,0 +1,348 @@
+package com.example.sudoku.views.board;
+
+import com.example.sudoku.models.GameState;
+import com.example.sudoku.models.Geometry;
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.TextField;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * This class draws the whole board on a single Canvas and edits the selected cell with one shared TextField
+ * placed over it. Changes only redraw the cells they affect, so the cost of the view does not grow with the
+ * number of controls on the board.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class CanvasBoardView implements BoardView, GameState.Listener {
+    private static final Color BACKGROUND = Color.web("#f4bf7d");
+    private static final Color OTHERS_HIGHLIGHT = Color.web("#e0b179");
+    private static final Color HIGHLIGHT = Color.web("#c29a69");
+    private static final Color BORDER = Color.web("#a04900");
+    private static final Color GIVEN = Color.web("#a04900");
+    private static final Color NUMBER = Color.WHITE;
+    private static final Color HINT = Color.YELLOW;
+    private static final Color ERROR = Color.RED;
+    private static final double BORDER_WIDTH = 2;
+    private static final double BOX_BORDER_WIDTH = 5;
+    private static final double FONT_RATIO = 0.4;
+
+    private final Geometry geometry;
+    private final int size;
+    private final double cellSize;
+    private final Pane pane = new Pane();
+    private final Canvas canvas;
+    private final GraphicsContext graphics;
+    private final TextField editor = new TextField();
+
+    /**
+     * The hint or rejected number shown in each empty cell, 0 if there is none.
+     */
+    private final byte[] marks;
+    private final BitSet errors;
+    private final BitSet dirty;
+    private InputHandler inputHandler = (cell, value) -> { };
+    private GameState state;
+    private int selected = -1;
+    private boolean editable = true;
+    private boolean updating;
+
+    /**
+     * Constructor for the CanvasBoardView class.
+     * @param geometry Shape of the board.
+     * @param side Width and height of the board in pixels.
+     */
+    public CanvasBoardView(Geometry geometry, double side) {
+        this.geometry = geometry;
+        this.size = geometry.getSize();
+        this.cellSize = side / size;
+        this.canvas = new Canvas(side, side);
+        this.graphics = canvas.getGraphicsContext2D();
+        this.marks = new byte[geometry.getCellCount()];
+        this.errors = new BitSet(marks.length);
+        this.dirty = new BitSet(marks.length);
+
+        graphics.setFont(Font.font(null, FontWeight.BOLD, cellSize * FONT_RATIO));
+        graphics.setTextAlign(TextAlignment.CENTER);
+        graphics.setTextBaseline(VPos.CENTER);
+
+        setupEditor();
+        pane.getChildren().addAll(canvas, editor);
+        pane.setPrefSize(side, side);
+
+        canvas.setOnMousePressed(event -> {
+            int col = Math.min((int) (event.getX() / cellSize), size - 1);
+            int row = Math.min((int) (event.getY() / cellSize), size - 1);
+            select(geometry.cellIndex(row, col));
+        });
+    }
+
+    /**
+     * Sets up the shared TextField that edits the selected cell.
+     */
+    private void setupEditor() {
+        editor.setManaged(false);
+        editor.setVisible(false);
+        editor.setStyle("-fx-font-size: %.0fpx;".formatted(cellSize * FONT_RATIO));
+        CellInput.setupFormatter(editor, size);
+
+        editor.textProperty().addListener((observable, oldValue, newValue) -> {
+            if (!updating && selected >= 0) {
+                if (!newValue.isEmpty()) {
+                    clearMark(selected);
+                }
+                inputHandler.onInput(selected, CellInput.parse(newValue));
+            }
+        });
+
+        editor.focusedProperty().addListener((observable, oldValue, newValue) -> {
+            if (!newValue) {
+                select(-1);
+            }
+        });
+
+        editor.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (selected < 0) {
+                return;
+            }
+
+            int row = geometry.rowOf(selected);
+            int col = geometry.colOf(selected);
+            switch (event.getCode()) {
+                case UP -> row = Math.max(row - 1, 0);
+                case DOWN -> row = Math.min(row + 1, size - 1);
+                case LEFT -> col = Math.max(col - 1, 0);
+                case RIGHT -> col = Math.min(col + 1, size - 1);
+                default -> {
+                    return;
+                }
+            }
+            event.consume();
+            select(geometry.cellIndex(row, col));
+        });
+    }
+
+    @Override
+    public Node getNode() {
+        return pane;
+    }
+
+    @Override
+    public void setInputHandler(InputHandler handler) {
+        this.inputHandler = handler;
+    }
+
+    @Override
+    public void show(GameState state) {
+        this.state = state;
+        state.addListener(this);
+        Arrays.fill(marks, (byte) 0);
+        errors.clear();
+        editable = true;
+        selected = -1;
+        editor.setVisible(false);
+
+        dirty.set(0, marks.length);
+        redraw();
+    }
+
+    @Override
+    public void showHint(int cell, int value) {
+        marks[cell] = (byte) value;
+        errors.clear(cell);
+        refresh(cell);
+    }
+
+    @Override
+    public void showError(int cell, int value) {
+        marks[cell] = (byte) value;
+        errors.set(cell);
+        refresh(cell);
+    }
+
+    @Override
+    public void setEditable(boolean editable) {
+        this.editable = editable;
+        if (selected >= 0) {
+            loadEditor();
+        }
+    }
+
+    @Override
+    public void onCellChanged(int cell, int value) {
+        refresh(cell);
+    }
+
+    @Override
+    public void onConflictChanged(int cell, boolean conflicting) {
+        refresh(cell);
+    }
+
+    /**
+     * Moves the selection to a cell, redrawing the highlight of the units it leaves and enters.
+     *
+     * @param cell The cell to select, -1 to clear the selection.
+     */
+    private void select(int cell) {
+        if (cell == selected || state == null) {
+            return;
+        }
+
+        markUnitsDirty(selected);
+        selected = cell;
+        markUnitsDirty(selected);
+        redraw();
+
+        if (cell < 0) {
+            editor.setVisible(false);
+            return;
+        }
+
+        loadEditor();
+        editor.resizeRelocate(geometry.colOf(cell) * cellSize, geometry.rowOf(cell) * cellSize, cellSize, cellSize);
+        editor.setVisible(true);
+        editor.requestFocus();
+    }
+
+    /**
+     * Shows the selected cell in the editor.
+     */
+    private void loadEditor() {
+        boolean given = state.isGiven(selected);
+        int mark = marks[selected];
+
+        updating = true;
+        editor.setText(CellInput.format(state.get(selected)));
+        updating = false;
+        editor.setPromptText(CellInput.format(mark));
+        editor.setEditable(editable && !given);
+
+        editor.getStyleClass().removeAll("pinned-cell", "hint-cell", "error-cell", "highlight");
+        CellInput.styleCell(editor, geometry, geometry.rowOf(selected), geometry.colOf(selected));
+        editor.getStyleClass().add("highlight");
+        if (given) {
+            editor.getStyleClass().add("pinned-cell");
+        } else if (mark != 0 || state.isConflicting(selected)) {
+            editor.getStyleClass().add(errors.get(selected) || state.isConflicting(selected) ? "error-cell" : "hint-cell");
+        }
+    }
+
+    /**
+     * Removes the hint or error shown in a cell.
+     *
+     * @param cell The cell index.
+     */
+    private void clearMark(int cell) {
+        marks[cell] = 0;
+        errors.clear(cell);
+        editor.getStyleClass().removeAll("hint-cell", "error-cell");
+        editor.setPromptText("");
+    }
+
+    /**
+     * Redraws a cell, and the editor when the cell is selected.
+     *
+     * @param cell The cell index.
+     */
+    private void refresh(int cell) {
+        dirty.set(cell);
+        redraw();
+        if (cell == selected) {
+            loadEditor();
+        }
+    }
+
+    /**
+     * Marks the row, column and box of a cell to be redrawn.
+     *
+     * @param cell The cell index, ignored when negative.
+     */
+    private void markUnitsDirty(int cell) {
+        if (cell < 0) {
+            return;
+        }
+
+        int[] units = {geometry.rowOf(cell), size + geometry.colOf(cell), 2 * size + geometry.boxOf(cell)};
+        for (int unit : units) {
+            for (int i = 0; i < size; i++) {
+                dirty.set(geometry.unitCell(unit, i));
+            }
+        }
+    }
+
+    /**
+     * Draws the dirty cells.
+     */
+    private void redraw() {
+        for (int cell = dirty.nextSetBit(0); cell >= 0; cell = dirty.nextSetBit(cell + 1)) {
+            drawCell(cell);
+        }
+        dirty.clear();
+    }
+
+    /**
+     * Draws the background, borders and number of a cell.
+     *
+     * @param cell The cell index.
+     */
+    private void drawCell(int cell) {
+        int row = geometry.rowOf(cell);
+        int col = geometry.colOf(cell);
+        double x = col * cellSize;
+        double y = row * cellSize;
+
+        graphics.setFill(background(cell));
+        graphics.fillRect(x, y, cellSize, cellSize);
+
+        double right = CellInput.isBoxRight(geometry, col) ? BOX_BORDER_WIDTH : BORDER_WIDTH;
+        double bottom = CellInput.isBoxBottom(geometry, row) ? BOX_BORDER_WIDTH : BORDER_WIDTH;
+        graphics.setFill(BORDER);
+        graphics.fillRect(x, y, cellSize, BORDER_WIDTH);
+        graphics.fillRect(x, y, BORDER_WIDTH, cellSize);
+        graphics.fillRect(x + cellSize - right, y, right, cellSize);
+        graphics.fillRect(x, y + cellSize - bottom, cellSize, bottom);
+
+        int value = state.get(cell);
+        int shown = value != 0 ? value : marks[cell];
+        if (shown == 0) {
+            return;
+        }
+
+        if (value == 0) {
+            graphics.setFill(errors.get(cell) ? ERROR : HINT);
+        } else if (state.isGiven(cell)) {
+            graphics.setFill(GIVEN);
+        } else {
+            graphics.setFill(state.isConflicting(cell) ? ERROR : NUMBER);
+        }
+        graphics.fillText(String.valueOf(shown), x + cellSize / 2, y + cellSize / 2);
+    }
+
+    /**
+     * @param cell The cell index.
+     * @return The background color of the cell for the current selection.
+     */
+    private Color background(int cell) {
+        if (selected < 0) {
+            return BACKGROUND;
+        }
+        if (cell == selected) {
+            return HIGHLIGHT;
+        }
+
+        boolean related = geometry.rowOf(cell) == geometry.rowOf(selected)
+                || geometry.colOf(cell) == geometry.colOf(selected)
+                || geometry.boxOf(cell) == geometry.boxOf(selected);
+        return related ? OTHERS_HIGHLIGHT : BACKGROUND;
+    }
+}
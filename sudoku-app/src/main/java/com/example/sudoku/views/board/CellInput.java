@@ -0,0 +1,98 @@
+package com.example.sudoku.views.board;
+
+import com.example.sudoku.models.Geometry;
+import javafx.scene.control.TextField;
+import javafx.scene.control.TextFormatter;
+
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * This class groups the text field setup shared by the board views.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+final class CellInput {
+    /**
+     * Accepted cell text, compiled once instead of on every change.
+     */
+    private static final Pattern NUMBER = Pattern.compile("[1-9][0-9]?");
+
+    private CellInput() {
+    }
+
+    /**
+     * Sets up the formatter for the TextField to allow only numbers from 1 to the size of the board.
+     *
+     * @param textField The TextField to format.
+     * @param size      The size of the board.
+     */
+    static void setupFormatter(TextField textField, int size) {
+        UnaryOperator<TextFormatter.Change> filter = change -> {
+            String newText = change.getControlNewText();
+            if (newText.isEmpty()) {
+                return change;
+            }
+            return NUMBER.matcher(newText).matches() && Integer.parseInt(newText) <= size ? change : null;
+        };
+        textField.setTextFormatter(new TextFormatter<>(filter));
+    }
+
+    /**
+     * @param text The text of a cell.
+     * @return The number in the text, 0 if it is empty.
+     */
+    static int parse(String text) {
+        return text.isEmpty() ? 0 : Integer.parseInt(text);
+    }
+
+    /**
+     * @param value A number, 0 for an empty cell.
+     * @return The text that shows the number.
+     */
+    static String format(int value) {
+        return value == 0 ? "" : String.valueOf(value);
+    }
+
+    /**
+     * Styles a cell based on its position, drawing thicker borders between boxes.
+     *
+     * @param textField The TextField to style.
+     * @param geometry  Shape of the board.
+     * @param row       Row of the cell.
+     * @param col       Column of the cell.
+     */
+    static void styleCell(TextField textField, Geometry geometry, int row, int col) {
+        textField.getStyleClass().removeAll("cell", "cell-right", "cell-bottom", "cell-right-bottom");
+        textField.getStyleClass().add("cell");
+
+        boolean right = isBoxRight(geometry, col);
+        boolean bottom = isBoxBottom(geometry, row);
+
+        if (right && bottom) {
+            textField.getStyleClass().add("cell-right-bottom");
+        } else if (right) {
+            textField.getStyleClass().add("cell-right");
+        } else if (bottom) {
+            textField.getStyleClass().add("cell-bottom");
+        }
+    }
+
+    /**
+     * @param geometry Shape of the board.
+     * @param col      Column of the cell.
+     * @return true if a box border runs along the right side of the column.
+     */
+    static boolean isBoxRight(Geometry geometry, int col) {
+        return col % geometry.getBoxCols() == geometry.getBoxCols() - 1 && col != geometry.getSize() - 1;
+    }
+
+    /**
+     * @param geometry Shape of the board.
+     * @param row      Row of the cell.
+     * @return true if a box border runs along the bottom side of the row.
+     */
+    static boolean isBoxBottom(Geometry geometry, int row) {
+        return row % geometry.getBoxRows() == geometry.getBoxRows() - 1 && row != geometry.getSize() - 1;
+    }
+}
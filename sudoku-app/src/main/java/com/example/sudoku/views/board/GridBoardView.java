@@ -0,0 +1,224 @@
+package com.example.sudoku.views.board;
+
+import com.example.sudoku.models.GameState;
+import com.example.sudoku.models.Geometry;
+import javafx.scene.Node;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.RowConstraints;
+
+import java.util.List;
+
+/**
+ * This class draws the board as a grid with one TextField per cell.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class GridBoardView implements BoardView, GameState.Listener {
+    private final Geometry geometry;
+    private final int size;
+    private final GridPane grid = new GridPane();
+    private final TextField[] cells;
+    private InputHandler inputHandler = (cell, value) -> { };
+    private GameState state;
+    private int highlightedCell = -1;
+    private boolean updating;
+
+    /**
+     * Constructor for the GridBoardView class.
+     * @param geometry Shape of the board.
+     */
+    public GridBoardView(Geometry geometry) {
+        this.geometry = geometry;
+        this.size = geometry.getSize();
+        this.cells = new TextField[geometry.getCellCount()];
+
+        for (int i = 0; i < size; i++) {
+            ColumnConstraints column = new ColumnConstraints();
+            column.setPercentWidth(100.0 / size);
+            grid.getColumnConstraints().add(column);
+            RowConstraints row = new RowConstraints();
+            row.setPercentHeight(100.0 / size);
+            grid.getRowConstraints().add(row);
+        }
+
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                grid.add(createCell(row, col), col, row);
+            }
+        }
+    }
+
+    /**
+     * Creates a cell.
+     *
+     * @param row Row of the cell.
+     * @param col Column of the cell.
+     * @return A TextField for the cell.
+     */
+    private TextField createCell(int row, int col) {
+        int cell = geometry.cellIndex(row, col);
+        TextField textField = new TextField();
+        cells[cell] = textField;
+
+        CellInput.setupFormatter(textField, size);
+        CellInput.styleCell(textField, geometry, row, col);
+
+        textField.textProperty().addListener((observable, oldValue, newValue) -> {
+            if (!updating) {
+                if (!newValue.isEmpty()) {
+                    clearMark(textField);
+                }
+                inputHandler.onInput(cell, CellInput.parse(newValue));
+            }
+        });
+
+        textField.focusedProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue) {
+                highlightCells(cell);
+            } else {
+                clearHighlight();
+            }
+        });
+
+        return textField;
+    }
+
+    @Override
+    public Node getNode() {
+        return grid;
+    }
+
+    @Override
+    public void setInputHandler(InputHandler handler) {
+        this.inputHandler = handler;
+    }
+
+    @Override
+    public void show(GameState state) {
+        this.state = state;
+        state.addListener(this);
+        clearHighlight();
+
+        for (int cell = 0; cell < cells.length; cell++) {
+            TextField textField = cells[cell];
+            boolean given = state.isGiven(cell);
+
+            clearMark(textField);
+            textField.getStyleClass().remove("pinned-cell");
+            if (given) {
+                textField.getStyleClass().add("pinned-cell");
+            }
+            setText(textField, state.get(cell));
+            textField.setEditable(!given);
+        }
+    }
+
+    @Override
+    public void showHint(int cell, int value) {
+        TextField textField = cells[cell];
+        textField.getStyleClass().remove("error-cell");
+        textField.getStyleClass().add("hint-cell");
+        textField.setPromptText(String.valueOf(value));
+    }
+
+    @Override
+    public void showError(int cell, int value) {
+        TextField textField = cells[cell];
+        setText(textField, 0);
+        textField.setPromptText(String.valueOf(value));
+        textField.getStyleClass().add("error-cell");
+    }
+
+    @Override
+    public void setEditable(boolean editable) {
+        for (int cell = 0; cell < cells.length; cell++) {
+            cells[cell].setEditable(editable && !state.isGiven(cell));
+        }
+    }
+
+    @Override
+    public void onCellChanged(int cell, int value) {
+        setText(cells[cell], value);
+    }
+
+    @Override
+    public void onConflictChanged(int cell, boolean conflicting) {
+        if (conflicting) {
+            cells[cell].getStyleClass().add("error-cell");
+        } else {
+            cells[cell].getStyleClass().remove("error-cell");
+        }
+    }
+
+    /**
+     * Writes a number into a TextField without reporting it as input.
+     *
+     * @param textField The TextField.
+     * @param value     The number, 0 to empty it.
+     */
+    private void setText(TextField textField, int value) {
+        updating = true;
+        textField.setText(CellInput.format(value));
+        updating = false;
+    }
+
+    /**
+     * Removes the hint or error shown in a cell.
+     *
+     * @param textField The TextField.
+     */
+    private void clearMark(TextField textField) {
+        textField.getStyleClass().removeAll("hint-cell", "error-cell");
+        textField.setPromptText("");
+    }
+
+    /**
+     * Highlights the cells in the row, column and box of the currently focused cell.
+     *
+     * @param cell The focused cell.
+     */
+    private void highlightCells(int cell) {
+        clearHighlight();
+        highlightedCell = cell;
+
+        for (int unit : unitsOf(cell)) {
+            for (int i = 0; i < size; i++) {
+                int other = geometry.unitCell(unit, i);
+                if (other != cell) {
+                    List<String> styles = cells[other].getStyleClass();
+                    if (!styles.contains("others-highlight")) {
+                        styles.add("others-highlight");
+                    }
+                }
+            }
+        }
+
+        cells[cell].getStyleClass().add("highlight");
+    }
+
+    /**
+     * Clears the highlight from the row, column and box of the last highlighted cell.
+     */
+    private void clearHighlight() {
+        if (highlightedCell < 0) {
+            return;
+        }
+
+        for (int unit : unitsOf(highlightedCell)) {
+            for (int i = 0; i < size; i++) {
+                cells[geometry.unitCell(unit, i)].getStyleClass().removeAll("highlight", "others-highlight");
+            }
+        }
+        highlightedCell = -1;
+    }
+
+    /**
+     * @param cell The cell index.
+     * @return The row, column and box unit indexes of the cell.
+     */
+    private int[] unitsOf(int cell) {
+        return new int[]{geometry.rowOf(cell), size + geometry.colOf(cell), 2 * size + geometry.boxOf(cell)};
+    }
+}
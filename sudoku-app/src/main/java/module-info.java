@@ -2,14 +2,15 @@
  * Module declaration for the application, specifying its dependencies and exported packages.
  */
 module com.example.sudoku {
+    requires com.example.sudoku.core;
     requires javafx.controls;
-    requires javafx.fxml;
     requires java.desktop;
+    requires java.management;
+    requires jdk.jfr;
 
-    opens com.example.sudoku.controllers to javafx.fxml;
     exports com.example.sudoku;
-    exports com.example.sudoku.models;
     exports com.example.sudoku.controllers;
     exports com.example.sudoku.views;
     exports com.example.sudoku.views.alert;
-}
\ No newline at end of file
+    exports com.example.sudoku.views.board;
+}
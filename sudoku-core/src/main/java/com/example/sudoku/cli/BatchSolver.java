@@ -0,0 +1,272 @@
+package com.example.sudoku.cli;
+
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.solver.Engine;
+import com.example.sudoku.models.solver.SolverContext;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class is the headless entry point that solves a corpus of puzzles, one per line.
+ * A line holds the cells row by row, with digits for the givens and '0' or '.' for the empty cells; its
+ * length picks the board: 16 characters for 4x4, 36 for 6x6 and 81 for 9x9. Blank lines and lines starting
+ * with '#' are skipped.
+ * A reader thread turns every line into a task and puts it on two bounded queues: the work queue, drained by
+ * the worker threads, and the output queue, drained in input order by the writer. Both queues hold at most
+ * {@link #QUEUE_CAPACITY} tasks, so memory stays flat whatever the size of the input.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class BatchSolver {
+    private static final int QUEUE_CAPACITY = 4096;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String USAGE = """
+            Usage: BatchSolver [options] [file]
+              --mode solve|count     Write each solution, or the number of solutions (default solve)
+              --engine dlx|backtracking|propagation
+                                     Search engine (default dlx)
+              --limit N              Stop counting at N solutions (default 2)
+              --threads N            Number of workers (default: available processors)
+            Reads standard input when no file is given or the file is "-".
+            Writes one result per line in input order: the solution, NONE, INVALID, or the count.""";
+
+    /**
+     * Task that stops a worker.
+     */
+    private static final FutureTask<String> END = new FutureTask<>(() -> null);
+
+    private final Engine engine;
+    private final boolean count;
+    private final int limit;
+    private final int threads;
+    private final LongAdder nodes = new LongAdder();
+
+    /**
+     * Constructor for the BatchSolver class.
+     * @param engine Search engine of the workers.
+     * @param count Whether to count the solutions instead of writing the first one.
+     * @param limit Number of solutions after which counting stops.
+     * @param threads Number of worker threads.
+     */
+    public BatchSolver(Engine engine, boolean count, int limit, int threads) {
+        this.engine = engine;
+        this.count = count;
+        this.limit = limit;
+        this.threads = threads;
+    }
+
+    /**
+     * Main method of the batch mode.
+     * @param args Options and input file, see {@link #USAGE}.
+     * @throws IOException if the input cannot be read or the output cannot be written.
+     * @throws InterruptedException if the thread is interrupted while waiting for the workers.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Engine engine = Engine.DANCING_LINKS;
+        boolean count = false;
+        int limit = 2;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String file = "-";
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--mode" -> count = switch (args[++i]) {
+                        case "solve" -> false;
+                        case "count" -> true;
+                        default -> throw new IllegalArgumentException("Unknown mode: " + args[i]);
+                    };
+                    case "--engine" -> engine = switch (args[++i]) {
+                        case "dlx" -> Engine.DANCING_LINKS;
+                        case "backtracking" -> Engine.BACKTRACKING;
+                        case "propagation" -> Engine.PROPAGATION;
+                        default -> throw new IllegalArgumentException("Unknown engine: " + args[i]);
+                    };
+                    case "--limit" -> limit = Integer.parseInt(args[++i]);
+                    case "--threads" -> threads = Integer.parseInt(args[++i]);
+                    default -> {
+                        if (args[i].startsWith("--")) {
+                            throw new IllegalArgumentException("Unknown option: " + args[i]);
+                        }
+                        file = args[i];
+                    }
+                }
+            }
+            if (limit < 1 || threads < 1) {
+                throw new IllegalArgumentException("--limit and --threads must be positive");
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println(e instanceof ArrayIndexOutOfBoundsException ? "Missing option value" : e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        BufferedReader in = file.equals("-")
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.US_ASCII), BUFFER_SIZE)
+                : Files.newBufferedReader(Path.of(file), StandardCharsets.US_ASCII);
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.US_ASCII), BUFFER_SIZE);
+
+        BatchSolver solver = new BatchSolver(engine, count, limit, threads);
+        long start = System.nanoTime();
+        long puzzles = solver.run(in, out);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.err.printf("%d puzzles in %.3f s (%.0f puzzles/s, %d search nodes)%n",
+                puzzles, seconds, puzzles / seconds, solver.getNodes());
+    }
+
+    /**
+     * @return Number of search nodes visited by the workers so far.
+     */
+    public long getNodes() {
+        return nodes.sum();
+    }
+
+    /**
+     * Solves every puzzle of the input and writes the results in the same order.
+     * @param in The puzzles, one per line. It is closed at the end.
+     * @param out Receiver of the results, one per line. It is flushed but not closed.
+     * @return Number of puzzles processed.
+     * @throws IOException if the input cannot be read or the output cannot be written.
+     * @throws InterruptedException if the thread is interrupted while waiting for the workers.
+     */
+    public long run(BufferedReader in, BufferedWriter out) throws IOException, InterruptedException {
+        BlockingQueue<FutureTask<String>> work = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        BlockingQueue<FutureTask<String>> ordered = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        IOException[] readError = new IOException[1];
+
+        Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Thread(() -> {
+                try {
+                    for (FutureTask<String> task = work.take(); task != END; task = work.take()) {
+                        task.run();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, "batch-worker-" + i);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+
+        Thread reader = new Thread(() -> {
+            try (in) {
+                for (String line = in.readLine(); line != null; line = in.readLine()) {
+                    String puzzle = line.strip();
+                    if (puzzle.isEmpty() || puzzle.startsWith("#")) {
+                        continue;
+                    }
+
+                    FutureTask<String> task = new FutureTask<>(() -> process(puzzle));
+                    ordered.put(task);
+                    work.put(task);
+                }
+            } catch (IOException e) {
+                readError[0] = e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                try {
+                    ordered.put(END);
+                    for (int i = 0; i < threads; i++) {
+                        work.put(END);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, "batch-reader");
+        reader.setDaemon(true);
+        reader.start();
+
+        long puzzles = 0;
+        try {
+            for (FutureTask<String> task = ordered.take(); task != END; task = ordered.take()) {
+                out.write(task.get());
+                out.newLine();
+                puzzles++;
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Puzzle " + puzzles + " failed", e.getCause());
+        } finally {
+            out.flush();
+        }
+
+        reader.join();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        if (readError[0] != null) {
+            throw readError[0];
+        }
+        return puzzles;
+    }
+
+    /**
+     * Solves one puzzle.
+     * @param line The puzzle.
+     * @return The result line.
+     */
+    private String process(String line) {
+        Geometry geometry = switch (line.length()) {
+            case 16 -> Geometry.FOUR;
+            case 36 -> Geometry.SIX;
+            case 81 -> Geometry.NINE;
+            default -> null;
+        };
+        if (geometry == null) {
+            return "INVALID";
+        }
+
+        byte[] values = new byte[line.length()];
+        for (int cell = 0; cell < values.length; cell++) {
+            char c = line.charAt(cell);
+            if (c == '.' || c == '0') {
+                continue;
+            }
+            if (c < '1' || c - '0' > geometry.getSize()) {
+                return "INVALID";
+            }
+            values[cell] = (byte) (c - '0');
+        }
+
+        try (SolverContext context = SolverContext.lease(geometry, engine)) {
+            if (!context.load(values)) {
+                return count ? "0" : "INVALID";
+            }
+            if (count) {
+                int solutions = context.getSolver().countSolutions(context.getBoard(), limit);
+                nodes.add(context.getSolver().getNodes());
+                return String.valueOf(solutions);
+            }
+
+            boolean solved = context.getSolver().solve(context.getBoard());
+            nodes.add(context.getSolver().getNodes());
+            if (!solved) {
+                return "NONE";
+            }
+
+            context.getBoard().copyTo(values);
+        }
+
+        char[] solution = new char[values.length];
+        for (int cell = 0; cell < values.length; cell++) {
+            solution[cell] = (char) ('0' + values[cell]);
+        }
+        return new String(solution);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.sudoku.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class is a monotonic count that many threads can update without contending, kept by {@link Metrics}.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public final class Counter {
+    private final String name;
+    private final LongAdder value = new LongAdder();
+
+    /**
+     * Constructor for the Counter class.
+     * @param name The name of the counter.
+     */
+    Counter(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return The name of the counter.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Adds one to the count if collection is on.
+     */
+    public void increment() {
+        add(1);
+    }
+
+    /**
+     * Adds to the count if collection is on.
+     * @param delta The amount to add.
+     */
+    public void add(long delta) {
+        if (Metrics.isEnabled()) {
+            value.add(delta);
+        }
+    }
+
+    /**
+     * @return The count.
+     */
+    public long get() {
+        return value.sum();
+    }
+
+    /**
+     * Sets the count back to zero.
+     */
+    void reset() {
+        value.reset();
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + get();
+    }
+}
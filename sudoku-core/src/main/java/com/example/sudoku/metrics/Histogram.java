@@ -0,0 +1,157 @@
+package com.example.sudoku.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class is a distribution of non-negative values, usually durations in nanoseconds, kept by
+ * {@link Metrics}. Values go into log-linear buckets: each power of two is split into
+ * {@value #SUB_BUCKETS} equal parts, so a percentile is off by at most one part in {@value #SUB_BUCKETS}
+ * whatever the magnitude, and recording is a few atomic increments with no allocation.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public final class Histogram {
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    private final String name;
+    private final AtomicLongArray buckets = new AtomicLongArray((64 - SUB_BITS + 1) * SUB_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Constructor for the Histogram class.
+     * @param name The name of the histogram.
+     */
+    Histogram(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return The name of the histogram.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Adds a value if collection is on.
+     * @param value The value, negative values count as 0.
+     */
+    public void record(long value) {
+        if (!Metrics.isEnabled()) {
+            return;
+        }
+
+        long v = Math.max(0, value);
+        buckets.incrementAndGet(bucketOf(v));
+        count.increment();
+        sum.add(v);
+        if (v > max.get()) {
+            max.accumulateAndGet(v, Math::max);
+        }
+    }
+
+    /**
+     * Adds the time elapsed since a section started.
+     * @param start The value returned by {@link Metrics#start()}, 0 meaning the section was not timed.
+     */
+    public void recordSince(long start) {
+        if (start != 0) {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return Number of values recorded.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return Mean of the values, 0 if there are none.
+     */
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * @return Largest value recorded.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Estimates a percentile from the buckets.
+     * @param p The percentile, between 0 and 1.
+     * @return The upper bound of the bucket holding the percentile, at most the largest value recorded.
+     */
+    public long getPercentile(double p) {
+        long n = count.sum();
+        if (n == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(p * n));
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Sets the histogram back to empty.
+     */
+    void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    /**
+     * @param value A non-negative value.
+     * @return Index of the bucket holding the value.
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * @param bucket A bucket index.
+     * @return The largest value that falls into the bucket.
+     */
+    private static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "count=%d mean=%d p50=%d p90=%d p99=%d max=%d".formatted(getCount(), Math.round(getMean()),
+                getPercentile(0.50), getPercentile(0.90), getPercentile(0.99), getMax());
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.sudoku.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * This class is the registry of the counters and histograms of the process. Instruments are created once by
+ * name, usually into static final fields, and every update first reads a single volatile switch, so with
+ * collection off an instrumented call costs one load and a branch. Collection starts on when the
+ * {@code sudoku.metrics} system property is {@code true} and can be switched at any time with
+ * {@link #setEnabled(boolean)}. The JDK Flight Recorder events of the engine are independent of this switch
+ * and follow the settings of the running recording.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public final class Metrics {
+    /**
+     * System property that turns collection on at startup.
+     */
+    public static final String PROPERTY = "sudoku.metrics";
+
+    private static final Map<String, Counter> COUNTERS = new ConcurrentSkipListMap<>();
+    private static final Map<String, Histogram> HISTOGRAMS = new ConcurrentSkipListMap<>();
+    private static volatile boolean enabled = Boolean.getBoolean(PROPERTY);
+
+    /**
+     * Constructor for the Metrics class, not meant to be instantiated.
+     */
+    private Metrics() {
+    }
+
+    /**
+     * @return true if the instruments are recording.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns collection on or off. Values already recorded are kept.
+     * @param enabled Whether the instruments record.
+     */
+    public static void setEnabled(boolean enabled) {
+        Metrics.enabled = enabled;
+    }
+
+    /**
+     * Returns the counter with a name, creating it the first time.
+     * @param name The name, such as {@code solver.nodes}.
+     * @return The counter.
+     */
+    public static Counter counter(String name) {
+        return COUNTERS.computeIfAbsent(name, Counter::new);
+    }
+
+    /**
+     * Returns the histogram with a name, creating it the first time.
+     * @param name The name, such as {@code solver.solve.nanos}.
+     * @return The histogram.
+     */
+    public static Histogram histogram(String name) {
+        return HISTOGRAMS.computeIfAbsent(name, Histogram::new);
+    }
+
+    /**
+     * @return Every counter, sorted by name.
+     */
+    public static Map<String, Counter> getCounters() {
+        return Collections.unmodifiableMap(COUNTERS);
+    }
+
+    /**
+     * @return Every histogram, sorted by name.
+     */
+    public static Map<String, Histogram> getHistograms() {
+        return Collections.unmodifiableMap(HISTOGRAMS);
+    }
+
+    /**
+     * Starts timing a section.
+     * @return The current time in nanoseconds, or 0 if collection is off, to be passed to
+     * {@link Histogram#recordSince(long)}.
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Sets every instrument back to zero.
+     */
+    public static void reset() {
+        COUNTERS.values().forEach(Counter::reset);
+        HISTOGRAMS.values().forEach(Histogram::reset);
+    }
+
+    /**
+     * @return One line per instrument that recorded something: counters with their value, histograms with
+     * their count, mean and percentiles.
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder();
+        COUNTERS.forEach((name, counter) -> {
+            if (counter.get() != 0) {
+                report.append(name).append(' ').append(counter.get()).append('\n');
+            }
+        });
+        HISTOGRAMS.forEach((name, histogram) -> {
+            if (histogram.getCount() != 0) {
+                report.append(name).append(' ').append(histogram).append('\n');
+            }
+        });
+        return report.toString();
+    }
+}
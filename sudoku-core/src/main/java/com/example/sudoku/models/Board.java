@@ -0,0 +1,201 @@
+package com.example.sudoku.models;
+
+import java.util.Arrays;
+
+/**
+ * This class is a Sudoku grid with the numbers used by each row, column and box kept as bitmasks.
+ * Bit (n - 1) of a unit mask is set when the number n is already placed in that unit. Masks take one
+ * 64-bit word for geometries of up to 64 numbers and several words above that.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public final class Board {
+    private final Geometry geometry;
+    private final int size;
+    private final int words;
+
+    /**
+     * Cells stored row by row, 0 meaning empty.
+     */
+    private final byte[] cells;
+
+    /**
+     * Unit masks laid out as rows, then columns, then boxes, each taking {@code words} longs.
+     */
+    private final long[] used;
+
+    /**
+     * Valid bits of the last word of a mask.
+     */
+    private final long lastWordMask;
+
+    private int filled;
+
+    /**
+     * Constructor for the Board class, creates an empty grid.
+     * @param geometry Shape of the grid.
+     */
+    public Board(Geometry geometry) {
+        this.geometry = geometry;
+        this.size = geometry.getSize();
+        this.words = geometry.getWords();
+        this.cells = new byte[geometry.getCellCount()];
+        this.used = new long[3 * size * words];
+
+        int rest = size & 63;
+        this.lastWordMask = rest == 0 ? -1L : (1L << rest) - 1;
+    }
+
+    /**
+     * @return Shape of the grid.
+     */
+    public Geometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * @param cell The cell index.
+     * @return The number in the cell, 0 if it is empty.
+     */
+    public int get(int cell) {
+        return cells[cell];
+    }
+
+    /**
+     * @return Number of non-empty cells.
+     */
+    public int getFilled() {
+        return filled;
+    }
+
+    /**
+     * Writes a number into an empty cell and marks it as used in its row, column and box.
+     * @param cell The cell index.
+     * @param n The number to be placed.
+     */
+    public void place(int cell, int n) {
+        int word = (n - 1) >>> 6;
+        long bit = 1L << (n - 1);
+        cells[cell] = (byte) n;
+        used[geometry.rowOf(cell) * words + word] |= bit;
+        used[(size + geometry.colOf(cell)) * words + word] |= bit;
+        used[(2 * size + geometry.boxOf(cell)) * words + word] |= bit;
+        filled++;
+    }
+
+    /**
+     * Empties a cell and releases its number in its row, column and box.
+     * @param cell The cell index.
+     */
+    public void unplace(int cell) {
+        int n = cells[cell];
+        int word = (n - 1) >>> 6;
+        long bit = ~(1L << (n - 1));
+        cells[cell] = 0;
+        used[geometry.rowOf(cell) * words + word] &= bit;
+        used[(size + geometry.colOf(cell)) * words + word] &= bit;
+        used[(2 * size + geometry.boxOf(cell)) * words + word] &= bit;
+        filled--;
+    }
+
+    /**
+     * Checks if a number can be placed in a cell without repeating it in the row, column or box.
+     * @param cell The cell index.
+     * @param n The number to check.
+     * @return true if the number can be placed, false otherwise.
+     */
+    public boolean isValid(int cell, int n) {
+        if (n < 1 || n > size) {
+            return false;
+        }
+
+        return (candidates(cell, (n - 1) >>> 6) & (1L << (n - 1))) != 0;
+    }
+
+    /**
+     * Returns one word of the numbers that are still free for a cell, ignoring the cell's own content.
+     * Bit b of word w stands for the number w * 64 + b + 1.
+     * @param cell The cell index.
+     * @param word The word index, from 0 to {@link Geometry#getWords()} - 1.
+     * @return The free numbers of that word.
+     */
+    public long candidates(int cell, int word) {
+        long taken = used[geometry.rowOf(cell) * words + word]
+                | used[(size + geometry.colOf(cell)) * words + word]
+                | used[(2 * size + geometry.boxOf(cell)) * words + word];
+        return ~taken & (word == words - 1 ? lastWordMask : -1L);
+    }
+
+    /**
+     * Returns the free numbers of a cell for geometries of up to 64 numbers.
+     * @param cell The cell index.
+     * @return The free numbers, bit n - 1 standing for the number n.
+     */
+    public long candidates(int cell) {
+        return candidates(cell, 0);
+    }
+
+    /**
+     * Counts the numbers that are still free for a cell.
+     * @param cell The cell index.
+     * @return The number of candidates.
+     */
+    public int candidateCount(int cell) {
+        int count = 0;
+        for (int w = 0; w < words; w++) {
+            count += Long.bitCount(candidates(cell, w));
+        }
+        return count;
+    }
+
+    /**
+     * Empties every cell and resets the masks.
+     */
+    public void clear() {
+        Arrays.fill(cells, (byte) 0);
+        Arrays.fill(used, 0L);
+        filled = 0;
+    }
+
+    /**
+     * Replaces the content of this board with a copy of another board of the same geometry.
+     * @param other The board to copy.
+     */
+    public void copyFrom(Board other) {
+        System.arraycopy(other.cells, 0, cells, 0, cells.length);
+        System.arraycopy(other.used, 0, used, 0, used.length);
+        filled = other.filled;
+    }
+
+    /**
+     * Replaces the content of this board with the given numbers, 0 meaning empty.
+     * @param values The numbers, row by row.
+     * @return true if the numbers do not repeat in any row, column or box, false otherwise.
+     */
+    public boolean load(byte[] values) {
+        clear();
+        boolean consistent = true;
+
+        for (int cell = 0; cell < cells.length; cell++) {
+            int n = values[cell];
+            if (n == 0) {
+                continue;
+            }
+            if (isValid(cell, n)) {
+                place(cell, n);
+            } else {
+                consistent = false;
+            }
+        }
+
+        return consistent;
+    }
+
+    /**
+     * Copies the numbers of the board into an array.
+     * @param target The array to fill, row by row.
+     */
+    public void copyTo(byte[] target) {
+        System.arraycopy(cells, 0, target, 0, cells.length);
+    }
+}
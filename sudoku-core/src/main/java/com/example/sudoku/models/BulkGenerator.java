@@ -0,0 +1,138 @@
+package com.example.sudoku.models;
+
+import com.example.sudoku.models.solver.Engine;
+import com.example.sudoku.models.solver.Solver;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class generates large batches of puzzles on a fork-join pool.
+ * The batch is split in halves down to chunks of {@link #CHUNK} puzzles; every split hands one half its own
+ * {@link SplittableRandom}, so workers never share a random source, and every chunk keeps one solver and one
+ * carver for all of its puzzles. Each puzzle gets its own seed drawn from its chunk's random source, so it can
+ * be rebuilt alone with {@link Sudoku#Sudoku(long, Geometry, Difficulty)}. The split tree depends only on the
+ * count, which makes the puzzle at a given index depend only on the batch seed. A seed whose grid is not
+ * completed within the generation limits is skipped and counted, leaving its index without a puzzle, so one
+ * unlucky seed does not abort the batch. Puzzles are handed to a {@link PuzzleSink} as soon as they are
+ * carved; wrapping the sink in a {@link UniquePuzzleSink} drops the puzzles equivalent to one already
+ * produced.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class BulkGenerator {
+    /**
+     * Number of puzzles generated by one task without splitting further.
+     */
+    private static final int CHUNK = 256;
+
+    private final Geometry geometry;
+    private final Difficulty difficulty;
+    private final Engine engine;
+    private final int parallelism;
+    private final GenerationLimits limits;
+
+    /**
+     * Constructor for the BulkGenerator class, using every available processor.
+     * @param geometry Shape of the puzzles.
+     * @param difficulty Difficulty of the puzzles.
+     */
+    public BulkGenerator(Geometry geometry, Difficulty difficulty) {
+        this(geometry, difficulty, Engine.DANCING_LINKS, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor for the BulkGenerator class.
+     * @param geometry Shape of the puzzles.
+     * @param difficulty Difficulty of the puzzles.
+     * @param engine Search engine used for the uniqueness checks of the carver.
+     * @param parallelism Number of worker threads.
+     */
+    public BulkGenerator(Geometry geometry, Difficulty difficulty, Engine engine, int parallelism) {
+        this(geometry, difficulty, engine, parallelism, GenerationLimits.defaults(geometry));
+    }
+
+    /**
+     * Constructor for the BulkGenerator class.
+     * @param geometry Shape of the puzzles.
+     * @param difficulty Difficulty of the puzzles.
+     * @param engine Search engine used for the uniqueness checks of the carver.
+     * @param parallelism Number of worker threads.
+     * @param limits Budget of the generation of each grid.
+     */
+    public BulkGenerator(Geometry geometry, Difficulty difficulty, Engine engine, int parallelism, GenerationLimits limits) {
+        this.geometry = geometry;
+        this.difficulty = difficulty;
+        this.engine = engine;
+        this.parallelism = parallelism;
+        this.limits = limits;
+    }
+
+    /**
+     * Generates a batch of puzzles and waits until all of them have been handed to the sink.
+     * @param count Number of puzzles.
+     * @param seed Seed of the batch.
+     * @param sink Receiver of the puzzles, called concurrently from the workers.
+     * @return Number of seeds skipped because no grid was completed within the generation limits.
+     */
+    public long generate(long count, long seed, PuzzleSink sink) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new GenerateTask(0, count, new SplittableRandom(seed), sink));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Task generating the puzzles of a range of indexes, returning the number of seeds it skipped.
+     */
+    private class GenerateTask extends RecursiveTask<Long> {
+        private final long from;
+        private final long to;
+        private final SplittableRandom rand;
+        private final PuzzleSink sink;
+
+        /**
+         * Constructor for the GenerateTask class.
+         * @param from First index, inclusive.
+         * @param to Last index, exclusive.
+         * @param rand Random source owned by this task.
+         * @param sink Receiver of the puzzles.
+         */
+        GenerateTask(long from, long to, SplittableRandom rand, PuzzleSink sink) {
+            this.from = from;
+            this.to = to;
+            this.rand = rand;
+            this.sink = sink;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from > CHUNK) {
+                long middle = (from + to) >>> 1;
+                GenerateTask left = new GenerateTask(from, middle, rand.split(), sink);
+                GenerateTask right = new GenerateTask(middle, to, rand, sink);
+                invokeAll(left, right);
+                return left.join() + right.join();
+            }
+
+            Solver solver = Engine.BACKTRACKING.create(geometry);
+            PuzzleCarver carver = new PuzzleCarver(geometry, difficulty.targetClues(geometry), difficulty.symmetry(), engine);
+            long failures = 0;
+
+            for (long index = from; index < to; index++) {
+                Sudoku sudoku;
+                try {
+                    sudoku = new Sudoku(geometry, solver, rand.nextLong(), difficulty, carver, limits);
+                } catch (IllegalStateException e) {
+                    failures++;
+                    continue;
+                }
+                sink.accept(index, sudoku);
+            }
+            return failures;
+        }
+    }
+}
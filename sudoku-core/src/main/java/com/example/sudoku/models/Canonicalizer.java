@@ -0,0 +1,282 @@
+package com.example.sudoku.models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class computes a canonical form of a grid, the same for every grid that differs from it only by the
+ * moves that keep a Sudoku valid: relabeling the numbers, reordering the bands (groups of box rows) and the
+ * rows inside each band, reordering the stacks (groups of box columns) and the columns inside each stack,
+ * and, when the boxes are square, transposing the grid. The canonical form is the smallest of all those
+ * grids read row by row, with empty cells as 0 and the numbers relabeled in order of first appearance.
+ * The search fixes a column order and then builds the rows one at a time, abandoning a branch as soon as one
+ * of its rows is larger than the same row of the best grid found so far. Every column order is tried, so the
+ * cost grows with their number; on boards with more than {@link #MAX_COLUMN_ORDERS} of them (12x12 and
+ * larger) the rows and columns inside bands and stacks are kept in place and only the bands, stacks,
+ * transposition and labels are canonicalized. Instances keep their working memory between calls and must
+ * not be shared between threads.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class Canonicalizer {
+    /**
+     * Largest number of column orders for which lines are also reordered inside bands and stacks.
+     */
+    public static final int MAX_COLUMN_ORDERS = 10_000;
+
+    private static final long HASH_SEED = 0x9E3779B97F4A7C15L;
+
+    private final int size;
+    private final int boxRows;
+    private final boolean transpose;
+    private final boolean full;
+    private final int[][] columnOrders;
+
+    private final byte[] source;
+    private final byte[] best;
+    private final int[][] labels;
+    private final int[] nextLabel;
+    private final int[] bandAt;
+    private final boolean[] usedBand;
+    private final boolean[] usedRow;
+    private int[] columns;
+    private int bestRows;
+
+    /**
+     * Constructor for the Canonicalizer class.
+     * @param geometry Shape of the grids it will canonicalize.
+     */
+    public Canonicalizer(Geometry geometry) {
+        this.size = geometry.getSize();
+        this.boxRows = geometry.getBoxRows();
+        int boxCols = geometry.getBoxCols();
+        this.transpose = boxRows == boxCols;
+
+        List<int[]> stackOrders = permutations(boxRows);
+        List<int[]> inStack = permutations(boxCols);
+        this.full = (long) stackOrders.size() * Math.round(Math.pow(inStack.size(), boxRows)) <= MAX_COLUMN_ORDERS;
+        if (!full) {
+            inStack = List.of(inStack.get(0));
+        }
+
+        List<int[]> orders = new ArrayList<>();
+        for (int[] stackOrder : stackOrders) {
+            addColumnOrders(orders, stackOrder, inStack, boxCols, new int[size], 0);
+        }
+        this.columnOrders = orders.toArray(new int[0][]);
+
+        this.source = new byte[geometry.getCellCount()];
+        this.best = new byte[geometry.getCellCount()];
+        this.labels = new int[size + 1][size + 1];
+        this.nextLabel = new int[size + 1];
+        this.bandAt = new int[boxCols];
+        this.usedBand = new boolean[boxCols];
+        this.usedRow = new boolean[size];
+    }
+
+    /**
+     * Computes the canonical form of a grid.
+     * @param grid The numbers, row by row, 0 meaning empty.
+     * @param target Receives the canonical form, it may be the same array as the grid.
+     */
+    public void canonicalize(byte[] grid, byte[] target) {
+        bestRows = 0;
+
+        for (int orientation = 0; orientation < (transpose ? 2 : 1); orientation++) {
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    source[row * size + col] = orientation == 0 ? grid[row * size + col] : grid[col * size + row];
+                }
+            }
+
+            for (int[] order : columnOrders) {
+                columns = order;
+                search(0);
+            }
+        }
+
+        System.arraycopy(best, 0, target, 0, best.length);
+    }
+
+    /**
+     * Computes a 64-bit hash of the canonical form of a grid, equal for every equivalent grid.
+     * @param grid The numbers, row by row, 0 meaning empty.
+     * @return The hash.
+     */
+    public long canonicalHash(byte[] grid) {
+        canonicalize(grid, best);
+
+        long hash = HASH_SEED;
+        for (byte value : best) {
+            hash = (hash ^ value) * 0x100000001B3L;
+            hash ^= hash >>> 29;
+        }
+        return hash;
+    }
+
+    /**
+     * Computes the hash of the canonical form of the givens of a puzzle.
+     * @param sudoku The puzzle.
+     * @return The hash.
+     */
+    public long canonicalHash(Sudoku sudoku) {
+        byte[] grid = new byte[size * size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (sudoku.isGiven(row, col)) {
+                    grid[row * size + col] = (byte) sudoku.getNumber(row, col);
+                }
+            }
+        }
+        return canonicalHash(grid);
+    }
+
+    /**
+     * Chooses the source row that becomes output row i, then the following rows.
+     * @param i Index of the output row.
+     */
+    private void search(int i) {
+        if (i == size) {
+            return;
+        }
+
+        int slot = i / boxRows;
+        int position = i % boxRows;
+        if (position == 0) {
+            for (int band = 0; band < usedBand.length; band++) {
+                if (!usedBand[band]) {
+                    usedBand[band] = true;
+                    bandAt[slot] = band;
+                    searchRows(i, band, position);
+                    usedBand[band] = false;
+                }
+            }
+        } else {
+            searchRows(i, bandAt[slot], position);
+        }
+    }
+
+    /**
+     * Tries the rows of a band as output row i.
+     * @param i Index of the output row.
+     * @param band Band the row must come from.
+     * @param position Position of the output row inside its band.
+     */
+    private void searchRows(int i, int band, int position) {
+        int first = band * boxRows;
+        for (int row = first; row < first + boxRows; row++) {
+            if (usedRow[row] || (!full && row != first + position)) {
+                continue;
+            }
+
+            if (placeRow(i, row)) {
+                usedRow[row] = true;
+                search(i + 1);
+                usedRow[row] = false;
+            }
+        }
+    }
+
+    /**
+     * Relabels a source row as output row i and compares it with the same row of the best grid, replacing the
+     * rest of the best grid when it is smaller.
+     * @param i Index of the output row.
+     * @param row The source row.
+     * @return false if the row is larger than the best one, so the branch can be abandoned.
+     */
+    private boolean placeRow(int i, int row) {
+        int[] from = labels[i];
+        int[] to = labels[i + 1];
+        System.arraycopy(from, 0, to, 0, from.length);
+        int next = nextLabel[i];
+        boolean smaller = bestRows <= i;
+
+        for (int j = 0; j < size; j++) {
+            int value = source[row * size + columns[j]];
+            int label = 0;
+            if (value != 0) {
+                if (to[value] == 0) {
+                    to[value] = ++next;
+                }
+                label = to[value];
+            }
+
+            if (!smaller) {
+                int current = best[i * size + j];
+                if (label > current) {
+                    return false;
+                }
+                smaller = label < current;
+            }
+            if (smaller) {
+                best[i * size + j] = (byte) label;
+            }
+        }
+
+        nextLabel[i + 1] = next;
+        if (smaller) {
+            bestRows = i + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Builds every column order that keeps the stacks in a given order.
+     * @param orders Receives the column orders.
+     * @param stackOrder Order of the stacks.
+     * @param inStack Allowed orders of the columns inside a stack.
+     * @param boxCols Number of columns of a stack.
+     * @param order Order being built.
+     * @param slot Next stack position to fill.
+     */
+    private static void addColumnOrders(List<int[]> orders, int[] stackOrder, List<int[]> inStack, int boxCols,
+                                        int[] order, int slot) {
+        if (slot == stackOrder.length) {
+            orders.add(order.clone());
+            return;
+        }
+
+        for (int[] columnOrder : inStack) {
+            for (int k = 0; k < boxCols; k++) {
+                order[slot * boxCols + k] = stackOrder[slot] * boxCols + columnOrder[k];
+            }
+            addColumnOrders(orders, stackOrder, inStack, boxCols, order, slot + 1);
+        }
+    }
+
+    /**
+     * @param n Number of elements.
+     * @return Every permutation of 0 to n - 1, starting with the identity.
+     */
+    private static List<int[]> permutations(int n) {
+        List<int[]> result = new ArrayList<>();
+        int[] current = new int[n];
+        Arrays.setAll(current, k -> k);
+        permute(current, 0, result);
+        result.sort(Arrays::compare);
+        return result;
+    }
+
+    /**
+     * Adds the permutations of the tail of an array.
+     * @param current The array, permuted in place.
+     * @param k First position of the tail.
+     * @param result Receives the permutations.
+     */
+    private static void permute(int[] current, int k, List<int[]> result) {
+        if (k == current.length) {
+            result.add(current.clone());
+            return;
+        }
+
+        for (int i = k; i < current.length; i++) {
+            int swap = current[k];
+            current[k] = current[i];
+            current[i] = swap;
+            permute(current, k + 1, result);
+            current[i] = current[k];
+            current[k] = swap;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.sudoku.models;
+
+/**
+ * This enum lists the difficulty levels of a puzzle, expressed as the share of cells left as givens.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public enum Difficulty {
+    EASY(0.5),
+    MEDIUM(1.0 / 3),
+    HARD(0.0);
+
+    private final double clueRatio;
+
+    /**
+     * Constructor for the Difficulty enum.
+     * @param clueRatio Share of the cells kept as givens, 0 meaning as few as the puzzle allows.
+     */
+    Difficulty(double clueRatio) {
+        this.clueRatio = clueRatio;
+    }
+
+    /**
+     * Computes the number of givens the carver aims for.
+     * @param geometry Shape of the puzzle.
+     * @return The target number of givens.
+     */
+    public int targetClues(Geometry geometry) {
+        return (int) Math.round(geometry.getCellCount() * clueRatio);
+    }
+
+    /**
+     * @return The symmetry followed by the givens.
+     */
+    public Symmetry symmetry() {
+        return Symmetry.ROTATIONAL;
+    }
+}
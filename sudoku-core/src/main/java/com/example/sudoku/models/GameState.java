@@ -0,0 +1,245 @@
+package com.example.sudoku.models;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * This class holds the numbers a player has on the board and keeps every derived count up to date on each
+ * edit: the number of filled cells, the filled cells per row, column and box, how often each number appears
+ * in each unit, and the set of cells whose number is repeated in one of their units. An edit only revisits
+ * the three units of the edited cell, and the win check is a comparison of two counters.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class GameState {
+    /**
+     * This interface is notified of the cells affected by an edit.
+     */
+    public interface Listener {
+        /**
+         * Called when the number of a cell changes.
+         * @param cell The cell index.
+         * @param value The new number, 0 if the cell was emptied.
+         */
+        void onCellChanged(int cell, int value);
+
+        /**
+         * Called when a cell starts or stops repeating a number of its row, column or box.
+         * @param cell The cell index.
+         * @param conflicting Whether the cell is now in conflict.
+         */
+        void onConflictChanged(int cell, boolean conflicting);
+    }
+
+    private final Geometry geometry;
+    private final int size;
+    private final byte[] values;
+    private final BitSet givens;
+    private final int[] unitFilled;
+
+    /**
+     * Occurrences of number n in unit u, stored at u * size + n - 1.
+     */
+    private final int[] unitCounts;
+    private final BitSet conflicts;
+    private final List<Listener> listeners = new ArrayList<>();
+    private int filled;
+
+    /**
+     * Constructor for the GameState class, starting from the givens of a puzzle.
+     * @param sudoku The puzzle.
+     */
+    public GameState(Sudoku sudoku) {
+        this.geometry = sudoku.getGeometry();
+        this.size = geometry.getSize();
+        this.values = new byte[geometry.getCellCount()];
+        this.givens = new BitSet(values.length);
+        this.unitFilled = new int[3 * size];
+        this.unitCounts = new int[3 * size * size];
+        this.conflicts = new BitSet(values.length);
+
+        for (int cell = 0; cell < values.length; cell++) {
+            int row = geometry.rowOf(cell);
+            int col = geometry.colOf(cell);
+            if (sudoku.isGiven(row, col)) {
+                givens.set(cell);
+                set(cell, sudoku.getNumber(row, col), false);
+            }
+        }
+    }
+
+    /**
+     * Registers a listener.
+     * @param listener The listener.
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @return Shape of the board.
+     */
+    public Geometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * @param cell The cell index.
+     * @return The number in the cell, 0 if it is empty.
+     */
+    public int get(int cell) {
+        return values[cell];
+    }
+
+    /**
+     * @param cell The cell index.
+     * @return true if the cell is a given of the puzzle.
+     */
+    public boolean isGiven(int cell) {
+        return givens.get(cell);
+    }
+
+    /**
+     * @param cell The cell index.
+     * @return true if the cell's number is repeated in its row, column or box.
+     */
+    public boolean isConflicting(int cell) {
+        return conflicts.get(cell);
+    }
+
+    /**
+     * @return Number of cells in conflict.
+     */
+    public int getConflictCount() {
+        return conflicts.cardinality();
+    }
+
+    /**
+     * @return Number of non-empty cells.
+     */
+    public int getFilled() {
+        return filled;
+    }
+
+    /**
+     * @param unit The unit index, rows first, then columns, then boxes.
+     * @return Number of non-empty cells of the unit.
+     */
+    public int getUnitFilled(int unit) {
+        return unitFilled[unit];
+    }
+
+    /**
+     * @param unit The unit index, rows first, then columns, then boxes.
+     * @param n The number.
+     * @return How many cells of the unit hold the number.
+     */
+    public int getUnitCount(int unit, int n) {
+        return unitCounts[unit * size + n - 1];
+    }
+
+    /**
+     * Checks if the board is complete and repeats no number, which for a puzzle with a single solution means
+     * it is solved.
+     * @return true if the game is won.
+     */
+    public boolean isSolved() {
+        return filled == values.length && conflicts.isEmpty();
+    }
+
+    /**
+     * Copies the numbers of the board into an array.
+     * @param target The array to fill, row by row, 0 meaning empty.
+     */
+    public void copyTo(byte[] target) {
+        System.arraycopy(values, 0, target, 0, values.length);
+    }
+
+    /**
+     * Writes a number into a cell, or empties it.
+     * @param cell The cell index.
+     * @param value The new number, 0 to empty the cell.
+     * @throws IllegalArgumentException if the cell is a given or the number is out of range.
+     */
+    public void set(int cell, int value) {
+        if (givens.get(cell)) {
+            throw new IllegalArgumentException("Cell " + cell + " is a given");
+        }
+        if (value < 0 || value > size) {
+            throw new IllegalArgumentException("Number out of range: " + value);
+        }
+
+        set(cell, value, true);
+    }
+
+    /**
+     * Writes a number into a cell and updates the counters of its three units.
+     * @param cell The cell index.
+     * @param value The new number, 0 to empty the cell.
+     * @param notify Whether the listeners are told about the change.
+     */
+    private void set(int cell, int value, boolean notify) {
+        int old = values[cell];
+        if (old == value) {
+            return;
+        }
+
+        int[] units = {geometry.rowOf(cell), size + geometry.colOf(cell), 2 * size + geometry.boxOf(cell)};
+        values[cell] = (byte) value;
+
+        if (old != 0) {
+            filled--;
+            for (int unit : units) {
+                unitFilled[unit]--;
+                unitCounts[unit * size + old - 1]--;
+            }
+        }
+        if (value != 0) {
+            filled++;
+            for (int unit : units) {
+                unitFilled[unit]++;
+                unitCounts[unit * size + value - 1]++;
+            }
+        }
+
+        if (notify) {
+            for (Listener listener : listeners) {
+                listener.onCellChanged(cell, value);
+            }
+        }
+
+        refreshConflict(cell, notify);
+        for (int unit : units) {
+            for (int i = 0; i < size; i++) {
+                int other = geometry.unitCell(unit, i);
+                int number = values[other];
+                if (other != cell && number != 0 && (number == old || number == value)) {
+                    refreshConflict(other, notify);
+                }
+            }
+        }
+    }
+
+    /**
+     * Recomputes whether a cell is in conflict from the counters of its units.
+     * @param cell The cell index.
+     * @param notify Whether the listeners are told about a change.
+     */
+    private void refreshConflict(int cell, boolean notify) {
+        int value = values[cell];
+        boolean conflicting = value != 0
+                && (unitCounts[geometry.rowOf(cell) * size + value - 1] > 1
+                || unitCounts[(size + geometry.colOf(cell)) * size + value - 1] > 1
+                || unitCounts[(2 * size + geometry.boxOf(cell)) * size + value - 1] > 1);
+
+        if (conflicts.get(cell) != conflicting) {
+            conflicts.set(cell, conflicting);
+            if (notify) {
+                for (Listener listener : listeners) {
+                    listener.onConflictChanged(cell, conflicting);
+                }
+            }
+        }
+    }
+}
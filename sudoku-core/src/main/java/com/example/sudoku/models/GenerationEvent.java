@@ -0,0 +1,42 @@
+package com.example.sudoku.models;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This class is the Flight Recorder event of one generated puzzle, from the first fill attempt to the end of
+ * the carving.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+@Name("com.example.sudoku.Generation")
+@Label("Generation")
+@Category("Sudoku")
+@Description("A puzzle generated from a seed")
+@StackTrace(false)
+class GenerationEvent extends Event {
+    @Label("Geometry")
+    String geometry;
+
+    @Label("Difficulty")
+    String difficulty;
+
+    @Label("Seed")
+    long seed;
+
+    @Label("Attempts")
+    @Description("Fill attempts started")
+    int attempts;
+
+    @Label("Nodes")
+    @Description("Search nodes of all the fill attempts")
+    long nodes;
+
+    @Label("Success")
+    @Description("Whether a grid was completed within the budget")
+    boolean success;
+}
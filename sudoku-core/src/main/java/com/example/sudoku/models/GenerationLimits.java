@@ -0,0 +1,93 @@
+package com.example.sudoku.models;
+
+import java.time.Duration;
+
+/**
+ * This class holds the budget of a {@link GridGenerator}. Attempts are cut off after a number of search nodes
+ * that follows the Luby sequence (1, 1, 2, 1, 1, 2, 4, ...) times a restart unit, so short attempts are
+ * retried often while longer ones still get their chance, and the whole generation gives up once its total
+ * node budget or its time budget is spent. Limits without a time budget make generation depend only on the
+ * seed.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public final class GenerationLimits {
+    /**
+     * Search nodes of one restart unit per cell of the board in the default limits.
+     */
+    public static final int NODES_PER_CELL = 8;
+
+    /**
+     * Total node budget of the default limits, in restart units.
+     */
+    public static final int DEFAULT_BUDGET_UNITS = 1024;
+
+    private final long restartUnit;
+    private final long nodeBudget;
+    private final Duration timeBudget;
+
+    /**
+     * Constructor for the GenerationLimits class.
+     * @param restartUnit Search nodes of the shortest attempt.
+     * @param nodeBudget Search nodes of all the attempts together.
+     * @param timeBudget Time after which no new attempt is started, null for no limit.
+     * @throws IllegalArgumentException if a limit is not positive.
+     */
+    public GenerationLimits(long restartUnit, long nodeBudget, Duration timeBudget) {
+        if (restartUnit <= 0 || nodeBudget <= 0) {
+            throw new IllegalArgumentException("Node limits must be positive");
+        }
+        if (timeBudget != null && (timeBudget.isNegative() || timeBudget.isZero())) {
+            throw new IllegalArgumentException("Time budget must be positive: " + timeBudget);
+        }
+
+        this.restartUnit = restartUnit;
+        this.nodeBudget = nodeBudget;
+        this.timeBudget = timeBudget;
+    }
+
+    /**
+     * Builds the default limits of a geometry: {@value #NODES_PER_CELL} nodes per cell per restart unit,
+     * {@value #DEFAULT_BUDGET_UNITS} units in total and no time budget.
+     * @param geometry Shape of the boards.
+     * @return The limits.
+     */
+    public static GenerationLimits defaults(Geometry geometry) {
+        long unit = (long) NODES_PER_CELL * geometry.getCellCount();
+        return new GenerationLimits(unit, unit * DEFAULT_BUDGET_UNITS, null);
+    }
+
+    /**
+     * @param timeBudget Time after which no new attempt is started, null for no limit.
+     * @return The same node limits with another time budget.
+     */
+    public GenerationLimits withTimeBudget(Duration timeBudget) {
+        return new GenerationLimits(restartUnit, nodeBudget, timeBudget);
+    }
+
+    /**
+     * @return Search nodes of the shortest attempt.
+     */
+    public long getRestartUnit() {
+        return restartUnit;
+    }
+
+    /**
+     * @return Search nodes of all the attempts together.
+     */
+    public long getNodeBudget() {
+        return nodeBudget;
+    }
+
+    /**
+     * @return Time after which no new attempt is started, null for no limit.
+     */
+    public Duration getTimeBudget() {
+        return timeBudget;
+    }
+
+    @Override
+    public String toString() {
+        return "unit=" + restartUnit + " budget=" + nodeBudget + (timeBudget == null ? "" : " time=" + timeBudget);
+    }
+}
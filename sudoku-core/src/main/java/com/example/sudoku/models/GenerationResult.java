@@ -0,0 +1,62 @@
+package com.example.sudoku.models;
+
+/**
+ * This class reports how a {@link GridGenerator} run ended: whether the board was completed, and the
+ * attempts, search nodes and time it took.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public final class GenerationResult {
+    private final boolean success;
+    private final int attempts;
+    private final long nodes;
+    private final long elapsedNanos;
+
+    /**
+     * Constructor for the GenerationResult class.
+     * @param success Whether the board was completed.
+     * @param attempts Number of attempts started.
+     * @param nodes Search nodes of all the attempts.
+     * @param elapsedNanos Duration of the run in nanoseconds.
+     */
+    GenerationResult(boolean success, int attempts, long nodes, long elapsedNanos) {
+        this.success = success;
+        this.attempts = attempts;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return true if the board was completed, false if the budget ran out first.
+     */
+    public boolean isSuccess() {
+        return success;
+    }
+
+    /**
+     * @return Number of attempts started.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * @return Search nodes of all the attempts.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * @return Duration of the run in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "%s after %d attempts, %d nodes, %.3f ms".formatted(success ? "Generated" : "Gave up",
+                attempts, nodes, elapsedNanos / 1e6);
+    }
+}
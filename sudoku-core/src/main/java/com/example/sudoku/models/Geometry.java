@@ -0,0 +1,199 @@
+package com.example.sudoku.models;
+
+/**
+ * This class describes the shape of a Sudoku: the size of its boxes and, from them, the size of the grid.
+ * A geometry with boxes of r rows and c columns has r * c rows, columns, boxes and numbers.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public final class Geometry {
+    /**
+     * Largest supported number of symbols, cells are stored as bytes.
+     */
+    public static final int MAX_SIZE = Byte.MAX_VALUE;
+
+    public static final Geometry FOUR = new Geometry(2, 2);
+    public static final Geometry SIX = new Geometry(2, 3);
+    public static final Geometry NINE = new Geometry(3, 3);
+    public static final Geometry TWELVE = new Geometry(3, 4);
+    public static final Geometry SIXTEEN = new Geometry(4, 4);
+    public static final Geometry TWENTY_FIVE = new Geometry(5, 5);
+
+    private final int boxRows;
+    private final int boxCols;
+    private final int size;
+    private final int cellCount;
+    private final int words;
+
+    private final int[] cellRow;
+    private final int[] cellCol;
+    private final int[] cellBox;
+    private final int[] unitCells;
+
+    /**
+     * Constructor for the Geometry class.
+     * @param boxRows Number of rows of each box.
+     * @param boxCols Number of columns of each box.
+     */
+    private Geometry(int boxRows, int boxCols) {
+        this.boxRows = boxRows;
+        this.boxCols = boxCols;
+        this.size = boxRows * boxCols;
+        this.cellCount = size * size;
+        this.words = (size + 63) >>> 6;
+
+        cellRow = new int[cellCount];
+        cellCol = new int[cellCount];
+        cellBox = new int[cellCount];
+        unitCells = new int[3 * size * size];
+
+        for (int cell = 0; cell < cellCount; cell++) {
+            int row = cell / size;
+            int col = cell % size;
+            int box = (row / boxRows) * boxRows + col / boxCols;
+            cellRow[cell] = row;
+            cellCol[cell] = col;
+            cellBox[cell] = box;
+
+            int boxCell = (row % boxRows) * boxCols + col % boxCols;
+            unitCells[row * size + col] = cell;
+            unitCells[(size + col) * size + row] = cell;
+            unitCells[(2 * size + box) * size + boxCell] = cell;
+        }
+    }
+
+    /**
+     * Returns the geometry with the given box shape, reusing the predefined instances when possible.
+     * @param boxRows Number of rows of each box.
+     * @param boxCols Number of columns of each box.
+     * @return The geometry.
+     * @throws IllegalArgumentException if the shape is empty or has more than {@link #MAX_SIZE} numbers.
+     */
+    public static Geometry of(int boxRows, int boxCols) {
+        if (boxRows < 1 || boxCols < 1 || boxRows * boxCols > MAX_SIZE) {
+            throw new IllegalArgumentException("Unsupported box shape: " + boxRows + "x" + boxCols);
+        }
+
+        for (Geometry geometry : new Geometry[] {FOUR, SIX, NINE, TWELVE, SIXTEEN, TWENTY_FIVE}) {
+            if (geometry.boxRows == boxRows && geometry.boxCols == boxCols) {
+                return geometry;
+            }
+        }
+
+        return new Geometry(boxRows, boxCols);
+    }
+
+    /**
+     * Parses a box shape written as rows x columns, the format of {@link #toString()}.
+     * @param text The shape, such as {@code 2x3}.
+     * @return The geometry.
+     * @throws IllegalArgumentException if the text is not a valid shape.
+     */
+    public static Geometry parse(String text) {
+        String[] parts = text.trim().split("x");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid box shape: " + text);
+        }
+
+        try {
+            return of(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid box shape: " + text, e);
+        }
+    }
+
+    /**
+     * @return Number of rows of each box.
+     */
+    public int getBoxRows() {
+        return boxRows;
+    }
+
+    /**
+     * @return Number of columns of each box.
+     */
+    public int getBoxCols() {
+        return boxCols;
+    }
+
+    /**
+     * @return Number of rows, columns, boxes and numbers of the grid.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return Number of cells of the grid.
+     */
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    /**
+     * @return Number of 64-bit words needed to hold one bit per number.
+     */
+    public int getWords() {
+        return words;
+    }
+
+    /**
+     * Computes the index of a cell, counted row by row.
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return The cell index.
+     */
+    public int cellIndex(int row, int col) {
+        return row * size + col;
+    }
+
+    /**
+     * @param cell The cell index.
+     * @return The row of the cell.
+     */
+    public int rowOf(int cell) {
+        return cellRow[cell];
+    }
+
+    /**
+     * @param cell The cell index.
+     * @return The column of the cell.
+     */
+    public int colOf(int cell) {
+        return cellCol[cell];
+    }
+
+    /**
+     * @param cell The cell index.
+     * @return The box of the cell, counted row by row.
+     */
+    public int boxOf(int cell) {
+        return cellBox[cell];
+    }
+
+    /**
+     * Returns the i-th cell of a unit. Units 0 to size - 1 are the rows, the next size units are the
+     * columns and the last size units are the boxes.
+     * @param unit The unit index.
+     * @param i The position of the cell inside the unit.
+     * @return The cell index.
+     */
+    public int unitCell(int unit, int i) {
+        return unitCells[unit * size + i];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Geometry other && other.boxRows == boxRows && other.boxCols == boxCols;
+    }
+
+    @Override
+    public int hashCode() {
+        return boxRows * 31 + boxCols;
+    }
+
+    @Override
+    public String toString() {
+        return boxRows + "x" + boxCols;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.sudoku.models;
+
+import com.example.sudoku.models.solver.Solver;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * This class fills empty boards with random complete grids under a {@link GenerationLimits} budget.
+ * Every attempt starts from a cleared board, fills the boxes of the diagonal with random permutations, which
+ * share no row and no column, and lets the solver complete the rest with a node limit taken from the Luby
+ * sequence. A run that spends its budget without completing the board ends with a failed
+ * {@link GenerationResult} and an empty board instead of retrying forever.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class GridGenerator {
+    private final Geometry geometry;
+    private final Solver solver;
+    private final GenerationLimits limits;
+    private final int[] numbers;
+
+    /**
+     * Constructor for the GridGenerator class.
+     * @param geometry Shape of the boards.
+     * @param solver Solver of that geometry used to complete the boards.
+     * @param limits Budget of each run.
+     */
+    public GridGenerator(Geometry geometry, Solver solver, GenerationLimits limits) {
+        this.geometry = geometry;
+        this.solver = solver;
+        this.limits = limits;
+        this.numbers = new int[geometry.getSize()];
+    }
+
+    /**
+     * Fills a board with a random complete grid.
+     * @param board The board, its content is replaced.
+     * @param rand Source of the random choices.
+     * @return How the run ended; on failure the board is left empty.
+     */
+    public GenerationResult generate(Board board, RandomGenerator rand) {
+        long start = System.nanoTime();
+        long timeBudget = limits.getTimeBudget() == null ? Long.MAX_VALUE : limits.getTimeBudget().toNanos();
+        long nodes = 0;
+        int attempts = 0;
+
+        while (nodes < limits.getNodeBudget() && System.nanoTime() - start < timeBudget) {
+            attempts++;
+            long nodeLimit = Math.min(limits.getRestartUnit() * luby(attempts), limits.getNodeBudget() - nodes);
+
+            board.clear();
+            fillDiagonal(board, rand);
+            boolean filled = solver.fill(board, rand, nodeLimit);
+            nodes += Math.min(solver.getNodes(), nodeLimit);
+
+            if (filled) {
+                return new GenerationResult(true, attempts, nodes, System.nanoTime() - start);
+            }
+        }
+
+        board.clear();
+        return new GenerationResult(false, attempts, nodes, System.nanoTime() - start);
+    }
+
+    /**
+     * Computes a term of the Luby sequence 1, 1, 2, 1, 1, 2, 4, 1, 1, 2, 1, 1, 2, 4, 8, ...
+     * @param i Position in the sequence, from 1.
+     * @return The term.
+     */
+    static long luby(long i) {
+        while (true) {
+            int k = 64 - Long.numberOfLeadingZeros(i);
+            if (i == (1L << k) - 1) {
+                return 1L << (k - 1);
+            }
+            i -= (1L << (k - 1)) - 1;
+        }
+    }
+
+    /**
+     * Fills the boxes of the diagonal with random permutations. Those boxes share no row and no column,
+     * so any permutation is valid.
+     * @param board An empty board.
+     * @param rand Source of the random choices.
+     */
+    private void fillDiagonal(Board board, RandomGenerator rand) {
+        int size = geometry.getSize();
+        int diagonal = Math.min(geometry.getBoxRows(), geometry.getBoxCols());
+
+        for (int i = 0; i < diagonal; i++) {
+            for (int n = 0; n < size; n++) {
+                numbers[n] = n + 1;
+            }
+            for (int n = size - 1; n > 0; n--) {
+                int j = rand.nextInt(n + 1);
+                int swap = numbers[n];
+                numbers[n] = numbers[j];
+                numbers[j] = swap;
+            }
+
+            int box = i * geometry.getBoxRows() + i;
+            for (int k = 0; k < size; k++) {
+                board.place(geometry.unitCell(2 * size + box, k), numbers[k]);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.sudoku.models;
+
+import java.util.Arrays;
+
+/**
+ * This class is a set of primitive longs stored in one open-addressing table with linear probing, with no
+ * object per element. The value 0 marks an empty slot, so it is tracked apart. The table doubles when it is
+ * half full, so it stays between a quarter and half full: each element costs 16 to 32 bytes. The table
+ * stops growing at 2^30 slots, which holds 2^29 elements. It is not thread-safe.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class LongHashSet {
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final int maxCapacity;
+    private long[] table;
+    private int mask;
+    private int size;
+    private boolean hasZero;
+
+    /**
+     * Constructor for the LongHashSet class.
+     * @param expected Number of elements to make room for.
+     * @throws IllegalArgumentException if more elements are expected than the set can hold.
+     */
+    public LongHashSet(int expected) {
+        this(expected, MAX_CAPACITY);
+    }
+
+    /**
+     * Constructor for the LongHashSet class, with a smaller largest table so tests can reach it.
+     * @param expected Number of elements to make room for.
+     * @param maxCapacity Largest table, a power of two of at least 16 slots and at most 2^30.
+     * @throws IllegalArgumentException if more elements are expected than the set can hold.
+     */
+    LongHashSet(int expected, int maxCapacity) {
+        if (expected > maxCapacity / 2) {
+            throw new IllegalArgumentException("A LongHashSet holds at most " + maxCapacity / 2 + " elements: " + expected);
+        }
+
+        this.maxCapacity = maxCapacity;
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expected) * 2 - 1) << 1;
+        this.table = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds a value.
+     * @param value The value.
+     * @return true if the value was not in the set.
+     * @throws IllegalStateException if the value is new and the set is full.
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            boolean added = !hasZero;
+            hasZero = true;
+            return added;
+        }
+
+        int slot = slot(value);
+        while (table[slot] != 0) {
+            if (table[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if ((size + 1) * 2 > table.length) {
+            grow();
+            slot = slot(value);
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        table[slot] = value;
+        size++;
+        return true;
+    }
+
+    /**
+     * @param value The value.
+     * @return true if the value is in the set.
+     */
+    public boolean contains(long value) {
+        if (value == 0) {
+            return hasZero;
+        }
+
+        for (int slot = slot(value); table[slot] != 0; slot = (slot + 1) & mask) {
+            if (table[slot] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Number of values in the set.
+     */
+    public int size() {
+        return size + (hasZero ? 1 : 0);
+    }
+
+    /**
+     * Removes every value.
+     */
+    public void clear() {
+        Arrays.fill(table, 0L);
+        size = 0;
+        hasZero = false;
+    }
+
+    /**
+     * @param value A non-zero value.
+     * @return The first slot to probe for the value.
+     */
+    private int slot(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    /**
+     * Doubles the table and reinserts every value.
+     * @throws IllegalStateException if the table is at its largest size.
+     */
+    private void grow() {
+        if (table.length == maxCapacity) {
+            throw new IllegalStateException("A LongHashSet holds at most " + maxCapacity / 2 + " elements");
+        }
+
+        long[] old = table;
+        table = new long[old.length * 2];
+        mask = table.length - 1;
+
+        for (long value : old) {
+            if (value != 0) {
+                int slot = slot(value);
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = value;
+            }
+        }
+    }
+}
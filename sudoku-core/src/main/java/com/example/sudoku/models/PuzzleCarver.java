@@ -0,0 +1,136 @@
+package com.example.sudoku.models;
+
+import com.example.sudoku.models.solver.Engine;
+import com.example.sudoku.models.solver.Solver;
+
+import java.util.BitSet;
+import java.util.random.RandomGenerator;
+
+/**
+ * This class turns a complete Sudoku into a puzzle by removing givens while the puzzle keeps a single
+ * solution. Cells are visited in random order; a removal is kept only when a solver bounded to two
+ * solutions still finds exactly one. Removals that leave the cell with a single candidate are kept without
+ * searching, since the cell is then forced by the remaining givens. The last cell that is its own partner
+ * under the symmetry is kept if removing it would leave an odd number of givens to remove with only pairs
+ * to remove them, which could never land on the target.
+ * The carver reuses its working memory, so an instance must not be shared between threads.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class PuzzleCarver {
+    private final Geometry geometry;
+    private final int targetClues;
+    private final Symmetry symmetry;
+    private final Solver solver;
+
+    private final Board work;
+    private final int[] order;
+    private final BitSet givens;
+
+    /**
+     * Constructor for the PuzzleCarver class, checking uniqueness with dancing links.
+     * @param geometry Shape of the puzzles.
+     * @param targetClues Number of givens to stop at, if the puzzle allows going that low.
+     * @param symmetry Symmetry the remaining givens must follow.
+     */
+    public PuzzleCarver(Geometry geometry, int targetClues, Symmetry symmetry) {
+        this(geometry, targetClues, symmetry, Engine.DANCING_LINKS);
+    }
+
+    /**
+     * Constructor for the PuzzleCarver class.
+     * @param geometry Shape of the puzzles.
+     * @param targetClues Number of givens to stop at, if the puzzle allows going that low.
+     * @param symmetry Symmetry the remaining givens must follow.
+     * @param engine Search engine used for the uniqueness checks.
+     */
+    public PuzzleCarver(Geometry geometry, int targetClues, Symmetry symmetry, Engine engine) {
+        this.geometry = geometry;
+        this.targetClues = targetClues;
+        this.symmetry = symmetry;
+        this.solver = engine.create(geometry);
+        this.work = new Board(geometry);
+        this.order = new int[geometry.getCellCount()];
+        this.givens = new BitSet(geometry.getCellCount());
+    }
+
+    /**
+     * Removes givens from the Sudoku until the target is reached or no further cell can be removed
+     * without allowing a second solution.
+     * @param sudoku The Sudoku to carve, its givens are replaced.
+     * @param rand Source of the removal order.
+     * @return The number of givens left.
+     */
+    public int carve(Sudoku sudoku, RandomGenerator rand) {
+        if (!sudoku.getGeometry().equals(geometry)) {
+            throw new IllegalArgumentException("Sudoku geometry " + sudoku.getGeometry() + " does not match " + geometry);
+        }
+
+        work.copyFrom(sudoku.getBoard());
+        int clues = geometry.getCellCount();
+
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = rand.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+
+        int singlesLeft = 0;
+        for (int cell = 0; cell < order.length; cell++) {
+            if (symmetry.partner(geometry, cell) == cell) {
+                singlesLeft++;
+            }
+        }
+        int pairedLeft = order.length - singlesLeft;
+
+        for (int i = 0; i < order.length && clues > targetClues; i++) {
+            int cell = order[i];
+            int partner = symmetry.partner(geometry, cell);
+            boolean pair = partner != cell;
+            if (pair) {
+                pairedLeft--;
+            } else {
+                singlesLeft--;
+            }
+            if (work.get(cell) == 0) {
+                continue;
+            }
+
+            if (clues - (pair ? 2 : 1) < targetClues
+                    || (!pair && singlesLeft == 0 && pairedLeft > 0 && (clues - 1 - targetClues) % 2 != 0)) {
+                continue;
+            }
+
+            int number = work.get(cell);
+            int partnerNumber = work.get(partner);
+            work.unplace(cell);
+            if (pair) {
+                work.unplace(partner);
+            }
+
+            boolean forced = work.candidateCount(cell) == 1 && (!pair || work.candidateCount(partner) == 1);
+            if (forced || solver.countSolutions(work, 2) == 1) {
+                clues -= pair ? 2 : 1;
+            } else {
+                work.place(cell, number);
+                if (pair) {
+                    work.place(partner, partnerNumber);
+                }
+            }
+        }
+
+        givens.clear();
+        for (int cell = 0; cell < order.length; cell++) {
+            if (work.get(cell) != 0) {
+                givens.set(cell);
+            }
+        }
+        sudoku.setGivens(givens);
+
+        return clues;
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.sudoku.models;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * This class keeps a small buffer of ready puzzles filled in the background, so taking the next puzzle does
+ * not wait for its generation. Refills are scheduled for the buffer's shortfall only: puzzles ready plus
+ * puzzles being generated never exceed the capacity, however many takes there are. The refills run on a
+ * thread of the prefetcher or on an executor shared by several prefetchers.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class PuzzlePrefetcher implements AutoCloseable {
+    private final Supplier<Sudoku> source;
+    private final int capacity;
+    private final BlockingQueue<Sudoku> ready;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+
+    /**
+     * Refills scheduled and not finished yet.
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * Takes from {@link #takeLater()} still waiting for a puzzle, in order. Guarded by this prefetcher.
+     */
+    private final Queue<CompletableFuture<Sudoku>> waiting = new ArrayDeque<>();
+    private volatile boolean closed;
+
+    /**
+     * Constructor for the PuzzlePrefetcher class, with a background thread of its own. It starts filling the
+     * buffer right away.
+     * @param source Builds a new puzzle, called from the background thread.
+     * @param capacity Number of puzzles kept ready.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public PuzzlePrefetcher(Supplier<Sudoku> source, int capacity) {
+        this(source, capacity, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "puzzle-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * Constructor for the PuzzlePrefetcher class, refilled on a shared executor that {@link #close()} leaves
+     * running. It starts filling the buffer right away.
+     * @param source Builds a new puzzle, called from the executor's threads.
+     * @param capacity Number of puzzles kept ready.
+     * @param executor Runs the refills.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public PuzzlePrefetcher(Supplier<Sudoku> source, int capacity, ExecutorService executor) {
+        this(source, capacity, executor, false);
+    }
+
+    /**
+     * Constructor for the PuzzlePrefetcher class.
+     * @param source Builds a new puzzle.
+     * @param capacity Number of puzzles kept ready.
+     * @param executor Runs the refills.
+     * @param ownsExecutor Whether {@link #close()} shuts the executor down.
+     */
+    private PuzzlePrefetcher(Supplier<Sudoku> source, int capacity, ExecutorService executor, boolean ownsExecutor) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+
+        this.source = source;
+        this.capacity = capacity;
+        this.ready = new ArrayBlockingQueue<>(capacity);
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        fill();
+    }
+
+    /**
+     * Takes the next ready puzzle, building it on the calling thread if the buffer is empty.
+     * @return A puzzle.
+     */
+    public Sudoku take() {
+        Sudoku sudoku = ready.poll();
+        fill();
+        return sudoku != null ? sudoku : source.get();
+    }
+
+    /**
+     * Takes the next ready puzzle, waiting for a refill if the buffer is empty. Nothing is built on the
+     * calling thread.
+     * @param timeout How long to wait.
+     * @param unit Unit of the timeout.
+     * @return A puzzle, or null if none was ready in time.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public Sudoku poll(long timeout, TimeUnit unit) throws InterruptedException {
+        Sudoku sudoku = ready.poll();
+        if (sudoku == null) {
+            fill();
+            sudoku = ready.poll(timeout, unit);
+        }
+        fill();
+        return sudoku;
+    }
+
+    /**
+     * Takes the next ready puzzle without waiting and without building anything on the calling thread. If the
+     * buffer is empty, the returned future is completed by the thread of the refill that builds the puzzle.
+     * @return The puzzle, already completed if one was ready. It is cancelled if the prefetcher is closed first,
+     * and fails if the refill that would have completed it fails.
+     */
+    public CompletableFuture<Sudoku> takeLater() {
+        Sudoku sudoku = ready.poll();
+        if (sudoku != null) {
+            fill();
+            return CompletableFuture.completedFuture(sudoku);
+        }
+
+        CompletableFuture<Sudoku> future = new CompletableFuture<>();
+        synchronized (this) {
+            if (closed) {
+                future.cancel(false);
+                return future;
+            }
+            waiting.add(future);
+        }
+        fill();
+        handOff();
+        return future;
+    }
+
+    /**
+     * @return Number of puzzles currently ready.
+     */
+    public int available() {
+        return ready.size();
+    }
+
+    /**
+     * Schedules one refill per puzzle missing from the buffer and not being generated already.
+     */
+    private void fill() {
+        while (!closed) {
+            int scheduled = pending.get();
+            if (ready.size() + scheduled >= capacity) {
+                return;
+            }
+
+            if (pending.compareAndSet(scheduled, scheduled + 1)) {
+                try {
+                    executor.execute(this::refill);
+                } catch (RejectedExecutionException e) {
+                    pending.decrementAndGet();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds one puzzle into the buffer, hands it to a waiting take if there is one, and tops the buffer up.
+     */
+    private void refill() {
+        try {
+            if (!closed) {
+                ready.offer(source.get());
+            }
+        } catch (RuntimeException e) {
+            CompletableFuture<Sudoku> future;
+            synchronized (this) {
+                future = waiting.poll();
+            }
+            if (future == null) {
+                throw e;
+            }
+            future.completeExceptionally(e);
+        } finally {
+            pending.decrementAndGet();
+        }
+        handOff();
+        // A take between the offer and the decrement saw this refill as pending and scheduled nothing.
+        fill();
+    }
+
+    /**
+     * Completes the waiting takes with the ready puzzles, and schedules refills for the puzzles handed over.
+     */
+    private void handOff() {
+        boolean handed = false;
+        synchronized (this) {
+            while (!waiting.isEmpty()) {
+                Sudoku sudoku = ready.poll();
+                if (sudoku == null) {
+                    break;
+                }
+                waiting.poll().complete(sudoku);
+                handed = true;
+            }
+        }
+        if (handed) {
+            fill();
+        }
+    }
+
+    /**
+     * Stops scheduling refills, cancels the takes still waiting, and stops the background thread if the
+     * prefetcher has its own. Puzzles already buffered can still be taken.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (this) {
+            waiting.forEach(future -> future.cancel(false));
+            waiting.clear();
+        }
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.sudoku.models;
+
+/**
+ * This interface receives the puzzles produced by a {@link BulkGenerator}.
+ * It is called from several worker threads at once, so implementations must be thread-safe.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface PuzzleSink {
+    /**
+     * Receives one puzzle.
+     * @param index Position of the puzzle in the requested batch, from 0 to count - 1. The indexes of skipped
+     *              seeds never arrive.
+     * @param sudoku The carved puzzle.
+     */
+    void accept(long index, Sudoku sudoku);
+}
@@ -0,0 +1,313 @@
+package com.example.sudoku.models;
+
+import com.example.sudoku.metrics.Counter;
+import com.example.sudoku.metrics.Histogram;
+import com.example.sudoku.metrics.Metrics;
+import com.example.sudoku.models.solver.Engine;
+import com.example.sudoku.models.solver.Solver;
+import jdk.jfr.EventType;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * This class is from the Sudoku model.
+ *  @author Felipe Garcia
+ *  @version 1.0
+ */
+public class Sudoku {
+    private static final EventType GENERATION_EVENT = EventType.getEventType(GenerationEvent.class);
+    private static final Counter ATTEMPTS = Metrics.counter("generation.attempts");
+    private static final Counter RETRIES = Metrics.counter("generation.retries");
+    private static final Counter FAILURES = Metrics.counter("generation.failures");
+    private static final Histogram GENERATION = Metrics.histogram("generation.nanos");
+
+    private final Geometry geometry;
+    private final Board board;
+    private final RandomGenerator rand;
+    private final long seed;
+    private final Difficulty difficulty;
+
+    /**
+     * Cells shown to the player, all of them until a {@link PuzzleCarver} removes some.
+     */
+    private final BitSet givens;
+
+    /**
+     * Outcome of the last generation, null for a stored puzzle.
+     */
+    private GenerationResult generation;
+
+    /**
+     * Completes the board, null for a stored puzzle until {@link #generateSudoku()} is called.
+     */
+    private GridGenerator generator;
+
+    /**
+     * Constructor for the Sudoku class.
+     * Generates a valid 6x6 Sudoku with 2x3 boxes.
+     */
+    public Sudoku() {
+        this(Geometry.SIX);
+    }
+
+    /**
+     * Constructor for the Sudoku class.
+     * Initializes an empty board with the given shape and generates a valid Sudoku.
+     * @param geometry Shape of the Sudoku.
+     */
+    public Sudoku(Geometry geometry) {
+        this(geometry, Engine.BACKTRACKING);
+    }
+
+    /**
+     * Constructor for the Sudoku class.
+     * Initializes an empty board with the given shape and generates a valid Sudoku with the given engine.
+     * @param geometry Shape of the Sudoku.
+     * @param engine Search engine used to complete the board.
+     */
+    public Sudoku(Geometry geometry, Engine engine) {
+        this(geometry, engine.create(geometry), new SplittableRandom().nextLong(), null, null,
+                GenerationLimits.defaults(geometry));
+    }
+
+    /**
+     * Constructor for the Sudoku class.
+     * Generates the puzzle identified by a seed: the same seed, geometry and difficulty always give the same
+     * solution and the same givens.
+     * @param seed Seed of the puzzle.
+     * @param geometry Shape of the Sudoku.
+     * @param difficulty Difficulty the givens are carved for.
+     */
+    public Sudoku(long seed, Geometry geometry, Difficulty difficulty) {
+        this(seed, geometry, difficulty, GenerationLimits.defaults(geometry));
+    }
+
+    /**
+     * Constructor for the Sudoku class.
+     * Generates the puzzle identified by a seed within a generation budget. Limits without a time budget give
+     * the same puzzle for the same seed, geometry and difficulty.
+     * @param seed Seed of the puzzle.
+     * @param geometry Shape of the Sudoku.
+     * @param difficulty Difficulty the givens are carved for.
+     * @param limits Budget of the generation.
+     * @throws IllegalStateException if no grid was completed within the budget.
+     */
+    public Sudoku(long seed, Geometry geometry, Difficulty difficulty, GenerationLimits limits) {
+        this(geometry, Engine.BACKTRACKING.create(geometry), seed, difficulty,
+                new PuzzleCarver(geometry, difficulty.targetClues(geometry), difficulty.symmetry()), limits);
+    }
+
+    /**
+     * Constructor for the Sudoku class.
+     * Rebuilds a stored puzzle from its solution and givens, without generating anything.
+     * @param geometry Shape of the Sudoku.
+     * @param solution The complete solution, row by row.
+     * @param givens The cells shown to the player.
+     * @param seed Seed the puzzle was generated from.
+     * @param difficulty Difficulty the puzzle was carved for, null if unknown.
+     * @throws IllegalArgumentException if the solution is not a complete valid grid.
+     */
+    public Sudoku(Geometry geometry, byte[] solution, BitSet givens, long seed, Difficulty difficulty) {
+        this.geometry = geometry;
+        this.board = new Board(geometry);
+        this.rand = new SplittableRandom(seed);
+        this.seed = seed;
+        this.difficulty = difficulty;
+        this.givens = (BitSet) givens.clone();
+
+        if (solution.length != geometry.getCellCount() || !board.load(solution)
+                || board.getFilled() != geometry.getCellCount()) {
+            throw new IllegalArgumentException("The solution is not a complete " + geometry + " Sudoku");
+        }
+    }
+
+    /**
+     * Constructor for the Sudoku class, used by generators that keep one solver and one carver per worker.
+     * The same seed only gives the same grid with the same solver: the seeded constructors and
+     * {@link BulkGenerator} pass a backtracking solver, which {@link #fromId(String)} relies on, while
+     * {@link #Sudoku(Geometry, Engine)} may use any engine since its seed is random and it has no id. The
+     * carver's engine does not matter since it only answers uniqueness questions.
+     * @param geometry Shape of the Sudoku.
+     * @param solver Solver of that geometry used to complete the board, backtracking for a puzzle with an id.
+     * @param seed Seed of every random choice.
+     * @param difficulty Difficulty the givens are carved for, null to keep the complete grid.
+     * @param carver Carver configured for that difficulty, null to keep the complete grid.
+     * @param limits Budget of the generation.
+     * @throws IllegalStateException if no grid was completed within the budget.
+     */
+    Sudoku(Geometry geometry, Solver solver, long seed, Difficulty difficulty, PuzzleCarver carver,
+           GenerationLimits limits) {
+        this.geometry = geometry;
+        this.board = new Board(geometry);
+        this.generator = new GridGenerator(geometry, solver, limits);
+        this.rand = new SplittableRandom(seed);
+        this.seed = seed;
+        this.difficulty = difficulty;
+        this.givens = new BitSet(geometry.getCellCount());
+
+        GenerationEvent event = GENERATION_EVENT.isEnabled() ? new GenerationEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        long start = Metrics.start();
+
+        boolean generated = generateSudoku();
+        if (generated) {
+            givens.set(0, geometry.getCellCount());
+            if (carver != null) {
+                carver.carve(this, rand);
+            }
+        }
+
+        ATTEMPTS.add(generation.getAttempts());
+        RETRIES.add(generation.getAttempts() - 1);
+        GENERATION.recordSince(start);
+        if (!generated) {
+            FAILURES.increment();
+        }
+        if (event != null && event.shouldCommit()) {
+            event.geometry = geometry.toString();
+            event.difficulty = String.valueOf(difficulty);
+            event.seed = seed;
+            event.attempts = generation.getAttempts();
+            event.nodes = generation.getNodes();
+            event.success = generated;
+            event.commit();
+        }
+
+        if (!generated) {
+            throw new IllegalStateException("Could not generate a " + geometry + " Sudoku from seed " + seed
+                    + " within " + limits + ": " + generation);
+        }
+    }
+
+    /**
+     * Rebuilds a puzzle from the identifier returned by {@link #getId()}.
+     * @param id The identifier, such as {@code 2x3-MEDIUM-00000000075bcd15}.
+     * @return The puzzle.
+     * @throws IllegalArgumentException if the identifier is malformed.
+     */
+    public static Sudoku fromId(String id) {
+        String[] parts = id.split("-");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid puzzle id: " + id);
+        }
+
+        try {
+            return new Sudoku(Long.parseUnsignedLong(parts[2], 16), Geometry.parse(parts[0]), Difficulty.valueOf(parts[1]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid puzzle id: " + id, e);
+        }
+    }
+
+    /**
+     * Generates a valid Sudoku grid with the grid generator, within its limits. A stored puzzle gets a
+     * backtracking generator with the default limits on its first call.
+     * @return true if the grid was generated, false if the budget ran out, in which case the board is empty.
+     */
+    public boolean generateSudoku() {
+        if (generator == null) {
+            generator = new GridGenerator(geometry, Engine.BACKTRACKING.create(geometry), GenerationLimits.defaults(geometry));
+        }
+        generation = generator.generate(board, rand);
+        return generation.isSuccess();
+    }
+
+    /**
+     * @return Outcome of the last generation, null if the puzzle was rebuilt from storage.
+     */
+    public GenerationResult getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Checks if placing a number in a given cell is valid.
+     * @param row The row index of the cell.
+     * @param col The column index of the cell.
+     * @param n The number to be placed in the cell.
+     * @return true if the number can be placed, false otherwise.
+     */
+    public boolean isValid(int row, int col, int n) {
+        return board.isValid(geometry.cellIndex(row, col), n);
+    }
+
+    /**
+     * Retrieves the number in the specified cell.
+     * @param row The row index of the cell.
+     * @param col The column index of the cell.
+     * @return The number in the cell at the specified row and column.
+     */
+    public int getNumber(int row, int col) {
+        return board.get(geometry.cellIndex(row, col));
+    }
+
+    /**
+     * @return The shape of the Sudoku.
+     */
+    public Geometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * Checks if a cell is shown to the player at the start of the game.
+     * @param row The row index of the cell.
+     * @param col The column index of the cell.
+     * @return true if the cell is a given, false if the player has to find it.
+     */
+    public boolean isGiven(int row, int col) {
+        return givens.get(geometry.cellIndex(row, col));
+    }
+
+    /**
+     * @return The number of cells shown to the player.
+     */
+    public int getGivenCount() {
+        return givens.cardinality();
+    }
+
+    /**
+     * @return The complete solution.
+     */
+    Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Replaces the cells shown to the player.
+     * @param givens The new givens, indexed by cell.
+     */
+    void setGivens(BitSet givens) {
+        this.givens.clear();
+        this.givens.or(givens);
+    }
+
+    /**
+     * @return The seed every random choice of this Sudoku was derived from.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return The difficulty the givens were carved for, null if the Sudoku was not carved from a seed.
+     */
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * Builds the identifier of a puzzle carved from a seed, which {@link #fromId(String)} turns back into
+     * the same puzzle.
+     * @return The identifier, made of the geometry, the difficulty and the seed in hexadecimal.
+     * @throws IllegalStateException if the Sudoku was not built from a seed and a difficulty.
+     */
+    public String getId() {
+        if (difficulty == null) {
+            throw new IllegalStateException("Only puzzles built from a seed and a difficulty have an id");
+        }
+
+        return geometry + "-" + difficulty + "-" + String.format("%016x", seed);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.sudoku.models;
+
+/**
+ * This enum lists the symmetries that the givens of a puzzle can follow.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public enum Symmetry {
+    /**
+     * Givens are removed one by one, anywhere.
+     */
+    NONE,
+
+    /**
+     * A cell and the cell opposite to it through the center are removed together.
+     */
+    ROTATIONAL,
+
+    /**
+     * A cell and its mirror across the vertical axis are removed together.
+     */
+    HORIZONTAL,
+
+    /**
+     * A cell and its mirror across the horizontal axis are removed together.
+     */
+    VERTICAL;
+
+    /**
+     * Finds the cell that must share the fate of the given cell.
+     * @param geometry Shape of the grid.
+     * @param cell The cell index.
+     * @return The partner cell, which is the cell itself when it lies on the axis or center.
+     */
+    public int partner(Geometry geometry, int cell) {
+        int last = geometry.getSize() - 1;
+        int row = geometry.rowOf(cell);
+        int col = geometry.colOf(cell);
+
+        return switch (this) {
+            case NONE -> cell;
+            case ROTATIONAL -> geometry.getCellCount() - 1 - cell;
+            case HORIZONTAL -> geometry.cellIndex(row, last - col);
+            case VERTICAL -> geometry.cellIndex(last - row, col);
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.sudoku.models;
+
+/**
+ * This class passes on only the puzzles that are not equivalent to one seen before.
+ * Every puzzle is reduced to the hash of the canonical form of its givens, computed with a
+ * {@link Canonicalizer} owned by the calling thread, and looked up in a {@link LongHashSet}, so each puzzle
+ * seen costs 16 to 32 bytes of the set's table. Puzzles are told apart by a 64-bit hash, so two different
+ * puzzles are taken as the same one with a probability of about n * n / 2^65 after n puzzles.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class UniquePuzzleSink implements PuzzleSink {
+    private final PuzzleSink sink;
+    private final LongHashSet seen;
+    private final ThreadLocal<Canonicalizer> canonicalizers;
+    private long duplicates;
+
+    /**
+     * Constructor for the UniquePuzzleSink class.
+     * @param geometry Shape of the puzzles.
+     * @param expected Number of puzzles to make room for.
+     * @param sink Receiver of the unique puzzles, with their index in the batch.
+     * @throws IllegalArgumentException if more puzzles are expected than a {@link LongHashSet} can hold.
+     */
+    public UniquePuzzleSink(Geometry geometry, int expected, PuzzleSink sink) {
+        this.sink = sink;
+        this.seen = new LongHashSet(expected);
+        this.canonicalizers = ThreadLocal.withInitial(() -> new Canonicalizer(geometry));
+    }
+
+    @Override
+    public void accept(long index, Sudoku sudoku) {
+        long hash = canonicalizers.get().canonicalHash(sudoku);
+
+        boolean added;
+        synchronized (seen) {
+            added = seen.add(hash);
+            if (!added) {
+                duplicates++;
+            }
+        }
+
+        if (added) {
+            sink.accept(index, sudoku);
+        }
+    }
+
+    /**
+     * @return Number of puzzles dropped as duplicates.
+     */
+    public long getDuplicates() {
+        synchronized (seen) {
+            return duplicates;
+        }
+    }
+
+    /**
+     * @return Number of distinct puzzles passed on.
+     */
+    public int getUnique() {
+        synchronized (seen) {
+            return seen.size();
+        }
+    }
+}
@@ -0,0 +1,517 @@
+package com.example.sudoku.models.grading;
+
+import com.example.sudoku.models.Board;
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.Sudoku;
+
+/**
+ * This class grades puzzles by solving them the way a person would.
+ * The grader keeps one candidate bitmask per cell and, at every step, applies the easiest {@link Technique}
+ * that makes progress. The grade reports the hardest technique that was needed and a score that adds the
+ * weight of every step. Puzzles that the techniques cannot finish are reported as not solved.
+ * All working memory is allocated once, so an instance must not be shared between threads. Geometries of
+ * more than 64 numbers are not supported.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class DifficultyGrader {
+    private final Geometry geometry;
+    private final int size;
+    private final int boxRows;
+    private final int boxCols;
+    private final long full;
+
+    private final Board work;
+    private final byte[] givens;
+    private final long[] candidates;
+    private final byte[] values;
+    private final long[] segments;
+    private final long[] positions;
+
+    private int empty;
+    private boolean broken;
+    private Technique hardest;
+    private int score;
+    private int steps;
+
+    /**
+     * Constructor for the DifficultyGrader class.
+     * @param geometry Shape of the puzzles it will grade.
+     * @throws IllegalArgumentException if the geometry has more than 64 numbers.
+     */
+    public DifficultyGrader(Geometry geometry) {
+        if (geometry.getSize() > Long.SIZE) {
+            throw new IllegalArgumentException("Grading supports up to 64 numbers, got " + geometry);
+        }
+
+        this.geometry = geometry;
+        this.size = geometry.getSize();
+        this.boxRows = geometry.getBoxRows();
+        this.boxCols = geometry.getBoxCols();
+        this.full = size == Long.SIZE ? -1L : (1L << size) - 1;
+
+        this.work = new Board(geometry);
+        this.givens = new byte[geometry.getCellCount()];
+        this.candidates = new long[geometry.getCellCount()];
+        this.values = new byte[geometry.getCellCount()];
+        this.segments = new long[Math.max(boxRows, boxCols)];
+        this.positions = new long[size];
+    }
+
+    /**
+     * Grades the givens of a puzzle.
+     * @param sudoku The puzzle.
+     * @return The grade.
+     */
+    public Grade grade(Sudoku sudoku) {
+        for (int cell = 0; cell < givens.length; cell++) {
+            int row = geometry.rowOf(cell);
+            int col = geometry.colOf(cell);
+            givens[cell] = sudoku.isGiven(row, col) ? (byte) sudoku.getNumber(row, col) : 0;
+        }
+
+        return grade(work.load(givens));
+    }
+
+    /**
+     * Grades the filled cells of a board taken as givens.
+     * @param board The puzzle.
+     * @return The grade.
+     */
+    public Grade grade(Board board) {
+        work.copyFrom(board);
+        return grade(true);
+    }
+
+    /**
+     * Runs the techniques on the loaded work board.
+     * @param consistent Whether the givens repeat no number in any unit.
+     * @return The grade.
+     */
+    private Grade grade(boolean consistent) {
+        empty = 0;
+        broken = !consistent;
+        hardest = null;
+        score = 0;
+        steps = 0;
+
+        for (int cell = 0; cell < candidates.length; cell++) {
+            values[cell] = (byte) work.get(cell);
+            candidates[cell] = values[cell] == 0 ? work.candidates(cell) : 0;
+            if (values[cell] == 0) {
+                empty++;
+            }
+        }
+
+        while (empty > 0 && !broken) {
+            if (nakedSingles() || hiddenSingles() || pointing() || boxLine()
+                    || nakedPairs() || hiddenPairs() || xWing()) {
+                continue;
+            }
+            break;
+        }
+
+        return new Grade(hardest, score, steps, empty == 0 && !broken);
+    }
+
+    /**
+     * Records one applied step.
+     * @param technique The technique of the step.
+     */
+    private void apply(Technique technique) {
+        steps++;
+        score += technique.getWeight();
+        if (hardest == null || technique.compareTo(hardest) > 0) {
+            hardest = technique;
+        }
+    }
+
+    /**
+     * Places a number and removes it from the candidates of the cell's row, column and box.
+     * @param cell The cell index.
+     * @param n The number.
+     */
+    private void place(int cell, int n) {
+        long bit = 1L << (n - 1);
+        values[cell] = (byte) n;
+        candidates[cell] = 0;
+        empty--;
+
+        int row = geometry.rowOf(cell);
+        int col = geometry.colOf(cell);
+        int box = geometry.boxOf(cell);
+        for (int i = 0; i < size; i++) {
+            candidates[geometry.unitCell(row, i)] &= ~bit;
+            candidates[geometry.unitCell(size + col, i)] &= ~bit;
+            candidates[geometry.unitCell(2 * size + box, i)] &= ~bit;
+        }
+    }
+
+    /**
+     * Removes candidates from an empty cell.
+     * @param cell The cell index.
+     * @param mask The candidates to remove.
+     * @return true if the cell lost at least one candidate.
+     */
+    private boolean eliminate(int cell, long mask) {
+        if (values[cell] != 0 || (candidates[cell] & mask) == 0) {
+            return false;
+        }
+
+        candidates[cell] &= ~mask;
+        return true;
+    }
+
+    /**
+     * Places every cell that has a single candidate.
+     * @return true if something was placed or a contradiction was found.
+     */
+    private boolean nakedSingles() {
+        boolean progress = false;
+
+        for (int cell = 0; cell < candidates.length; cell++) {
+            if (values[cell] != 0) {
+                continue;
+            }
+
+            long c = candidates[cell];
+            if (c == 0) {
+                broken = true;
+                return true;
+            }
+            if ((c & (c - 1)) == 0) {
+                place(cell, Long.numberOfTrailingZeros(c) + 1);
+                apply(Technique.NAKED_SINGLE);
+                progress = true;
+            }
+        }
+
+        return progress;
+    }
+
+    /**
+     * Places every number that fits in a single cell of a unit.
+     * @return true if something was placed or a contradiction was found.
+     */
+    private boolean hiddenSingles() {
+        boolean progress = false;
+
+        for (int unit = 0; unit < 3 * size; unit++) {
+            long once = 0;
+            long more = 0;
+            long placed = 0;
+
+            for (int i = 0; i < size; i++) {
+                int cell = geometry.unitCell(unit, i);
+                if (values[cell] != 0) {
+                    placed |= 1L << (values[cell] - 1);
+                } else {
+                    more |= once & candidates[cell];
+                    once |= candidates[cell];
+                }
+            }
+
+            if ((full & ~placed & ~once) != 0) {
+                broken = true;
+                return true;
+            }
+
+            long single = once & ~more;
+            while (single != 0) {
+                long bit = single & -single;
+                single ^= bit;
+
+                int target = -1;
+                for (int i = 0; i < size && target < 0; i++) {
+                    int cell = geometry.unitCell(unit, i);
+                    if ((candidates[cell] & bit) != 0) {
+                        target = cell;
+                    }
+                }
+
+                if (target < 0) {
+                    broken = true;
+                    return true;
+                }
+
+                place(target, Long.numberOfTrailingZeros(bit) + 1);
+                apply(Technique.HIDDEN_SINGLE);
+                progress = true;
+            }
+        }
+
+        return progress;
+    }
+
+    /**
+     * Looks for a number confined to one row or column of a box.
+     * @return true if a candidate was eliminated.
+     */
+    private boolean pointing() {
+        for (int box = 0; box < size; box++) {
+            int startRow = (box / boxRows) * boxRows;
+            int startCol = (box % boxRows) * boxCols;
+
+            for (int r = 0; r < boxRows; r++) {
+                segments[r] = 0;
+                for (int c = 0; c < boxCols; c++) {
+                    segments[r] |= candidates[geometry.cellIndex(startRow + r, startCol + c)];
+                }
+            }
+            for (int r = 0; r < boxRows; r++) {
+                long only = confined(r, boxRows);
+                boolean progress = false;
+                for (int col = 0; only != 0 && col < size; col++) {
+                    if (col < startCol || col >= startCol + boxCols) {
+                        progress |= eliminate(geometry.cellIndex(startRow + r, col), only);
+                    }
+                }
+                if (progress) {
+                    apply(Technique.POINTING);
+                    return true;
+                }
+            }
+
+            for (int c = 0; c < boxCols; c++) {
+                segments[c] = 0;
+                for (int r = 0; r < boxRows; r++) {
+                    segments[c] |= candidates[geometry.cellIndex(startRow + r, startCol + c)];
+                }
+            }
+            for (int c = 0; c < boxCols; c++) {
+                long only = confined(c, boxCols);
+                boolean progress = false;
+                for (int row = 0; only != 0 && row < size; row++) {
+                    if (row < startRow || row >= startRow + boxRows) {
+                        progress |= eliminate(geometry.cellIndex(row, startCol + c), only);
+                    }
+                }
+                if (progress) {
+                    apply(Technique.POINTING);
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Looks for a number confined to one box of a row or column.
+     * @return true if a candidate was eliminated.
+     */
+    private boolean boxLine() {
+        for (int row = 0; row < size; row++) {
+            int stacks = boxRows;
+            for (int s = 0; s < stacks; s++) {
+                segments[s] = 0;
+                for (int c = 0; c < boxCols; c++) {
+                    segments[s] |= candidates[geometry.cellIndex(row, s * boxCols + c)];
+                }
+            }
+            for (int s = 0; s < stacks; s++) {
+                long only = confined(s, stacks);
+                int box = (row / boxRows) * boxRows + s;
+                if (only != 0 && eliminateFromBox(box, only, row, -1)) {
+                    apply(Technique.BOX_LINE);
+                    return true;
+                }
+            }
+        }
+
+        for (int col = 0; col < size; col++) {
+            int bands = boxCols;
+            for (int b = 0; b < bands; b++) {
+                segments[b] = 0;
+                for (int r = 0; r < boxRows; r++) {
+                    segments[b] |= candidates[geometry.cellIndex(b * boxRows + r, col)];
+                }
+            }
+            for (int b = 0; b < bands; b++) {
+                long only = confined(b, bands);
+                int box = b * boxRows + col / boxCols;
+                if (only != 0 && eliminateFromBox(box, only, -1, col)) {
+                    apply(Technique.BOX_LINE);
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Computes the candidates of one segment that appear in no other segment.
+     * @param k The segment.
+     * @param count Number of segments in use.
+     * @return The confined candidates.
+     */
+    private long confined(int k, int count) {
+        long others = 0;
+        for (int j = 0; j < count; j++) {
+            if (j != k) {
+                others |= segments[j];
+            }
+        }
+        return segments[k] & ~others;
+    }
+
+    /**
+     * Removes candidates from the cells of a box outside a row or column.
+     * @param box The box index.
+     * @param mask The candidates to remove.
+     * @param keepRow Row whose cells are kept, -1 for none.
+     * @param keepCol Column whose cells are kept, -1 for none.
+     * @return true if a candidate was eliminated.
+     */
+    private boolean eliminateFromBox(int box, long mask, int keepRow, int keepCol) {
+        boolean progress = false;
+
+        for (int i = 0; i < size; i++) {
+            int cell = geometry.unitCell(2 * size + box, i);
+            if (geometry.rowOf(cell) != keepRow && geometry.colOf(cell) != keepCol) {
+                progress |= eliminate(cell, mask);
+            }
+        }
+
+        return progress;
+    }
+
+    /**
+     * Looks for two cells of a unit with the same two candidates.
+     * @return true if a candidate was eliminated.
+     */
+    private boolean nakedPairs() {
+        for (int unit = 0; unit < 3 * size; unit++) {
+            for (int i = 0; i < size; i++) {
+                long pair = candidates[geometry.unitCell(unit, i)];
+                if (Long.bitCount(pair) != 2) {
+                    continue;
+                }
+
+                for (int j = i + 1; j < size; j++) {
+                    if (candidates[geometry.unitCell(unit, j)] != pair) {
+                        continue;
+                    }
+
+                    boolean progress = false;
+                    for (int k = 0; k < size; k++) {
+                        if (k != i && k != j) {
+                            progress |= eliminate(geometry.unitCell(unit, k), pair);
+                        }
+                    }
+                    if (progress) {
+                        apply(Technique.NAKED_PAIR);
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Looks for two numbers that fit in the same two cells of a unit and nowhere else.
+     * @return true if a candidate was eliminated.
+     */
+    private boolean hiddenPairs() {
+        for (int unit = 0; unit < 3 * size; unit++) {
+            for (int d = 0; d < size; d++) {
+                positions[d] = 0;
+            }
+            for (int i = 0; i < size; i++) {
+                long c = candidates[geometry.unitCell(unit, i)];
+                while (c != 0) {
+                    long bit = c & -c;
+                    c ^= bit;
+                    positions[Long.numberOfTrailingZeros(bit)] |= 1L << i;
+                }
+            }
+
+            for (int d1 = 0; d1 < size; d1++) {
+                if (Long.bitCount(positions[d1]) != 2) {
+                    continue;
+                }
+
+                for (int d2 = d1 + 1; d2 < size; d2++) {
+                    if (positions[d2] != positions[d1]) {
+                        continue;
+                    }
+
+                    long others = ~((1L << d1) | (1L << d2));
+                    long where = positions[d1];
+                    boolean progress = false;
+                    while (where != 0) {
+                        long bit = where & -where;
+                        where ^= bit;
+                        progress |= eliminate(geometry.unitCell(unit, Long.numberOfTrailingZeros(bit)), others);
+                    }
+                    if (progress) {
+                        apply(Technique.HIDDEN_PAIR);
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Looks for a number that fits in the same two columns of two rows, or the same two rows of two columns.
+     * @return true if a candidate was eliminated.
+     */
+    private boolean xWing() {
+        for (int d = 0; d < size; d++) {
+            long bit = 1L << d;
+
+            for (int pass = 0; pass < 2; pass++) {
+                boolean byRow = pass == 0;
+
+                for (int line = 0; line < size; line++) {
+                    positions[line] = 0;
+                    for (int i = 0; i < size; i++) {
+                        int cell = byRow ? geometry.cellIndex(line, i) : geometry.cellIndex(i, line);
+                        if ((candidates[cell] & bit) != 0) {
+                            positions[line] |= 1L << i;
+                        }
+                    }
+                }
+
+                for (int a = 0; a < size; a++) {
+                    if (Long.bitCount(positions[a]) != 2) {
+                        continue;
+                    }
+
+                    for (int b = a + 1; b < size; b++) {
+                        if (positions[b] != positions[a]) {
+                            continue;
+                        }
+
+                        boolean progress = false;
+                        long cross = positions[a];
+                        while (cross != 0) {
+                            long crossBit = cross & -cross;
+                            cross ^= crossBit;
+                            int other = Long.numberOfTrailingZeros(crossBit);
+
+                            for (int line = 0; line < size; line++) {
+                                if (line != a && line != b) {
+                                    int cell = byRow ? geometry.cellIndex(line, other) : geometry.cellIndex(other, line);
+                                    progress |= eliminate(cell, bit);
+                                }
+                            }
+                        }
+                        if (progress) {
+                            apply(Technique.X_WING);
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+}
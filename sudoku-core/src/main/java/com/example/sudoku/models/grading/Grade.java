@@ -0,0 +1,60 @@
+package com.example.sudoku.models.grading;
+
+/**
+ * This class is the result of grading a puzzle.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class Grade {
+    private final Technique hardest;
+    private final int score;
+    private final int steps;
+    private final boolean solved;
+
+    /**
+     * Constructor for the Grade class.
+     * @param hardest Hardest technique that had to be applied, null if none was needed.
+     * @param score Sum of the weights of every applied step.
+     * @param steps Number of applied steps.
+     * @param solved Whether the techniques were enough to solve the puzzle.
+     */
+    public Grade(Technique hardest, int score, int steps, boolean solved) {
+        this.hardest = hardest;
+        this.score = score;
+        this.steps = steps;
+        this.solved = solved;
+    }
+
+    /**
+     * @return Hardest technique that had to be applied, null if none was needed.
+     */
+    public Technique getHardest() {
+        return hardest;
+    }
+
+    /**
+     * @return Sum of the weights of every applied step.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * @return Number of applied steps.
+     */
+    public int getSteps() {
+        return steps;
+    }
+
+    /**
+     * @return true if the known techniques solve the puzzle, false if guessing would be needed.
+     */
+    public boolean isSolved() {
+        return solved;
+    }
+
+    @Override
+    public String toString() {
+        return (solved ? "solved" : "stuck") + " with " + hardest + ", score " + score + " in " + steps + " steps";
+    }
+}
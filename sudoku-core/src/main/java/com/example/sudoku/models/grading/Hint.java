@@ -0,0 +1,84 @@
+package com.example.sudoku.models.grading;
+
+/**
+ * This class is a number suggested for an empty cell, with the technique that justifies it, or a number of
+ * the player's to take back because no solution goes through it.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class Hint {
+    private final int cell;
+    private final int value;
+    private final Technique technique;
+    private final boolean removal;
+
+    /**
+     * Constructor for the Hint class.
+     * @param cell The cell index.
+     * @param value The suggested number.
+     * @param technique Technique that deduces the number, null if it was taken from the solution.
+     */
+    public Hint(int cell, int value, Technique technique) {
+        this(cell, value, technique, false);
+    }
+
+    /**
+     * Constructor for the Hint class.
+     * @param cell The cell index.
+     * @param value The number to place or to take back.
+     * @param technique Technique that deduces the number, null if it was taken from the solution.
+     * @param removal Whether the number has to be taken back.
+     */
+    private Hint(int cell, int value, Technique technique, boolean removal) {
+        this.cell = cell;
+        this.value = value;
+        this.technique = technique;
+        this.removal = removal;
+    }
+
+    /**
+     * Creates a hint to take back a number that no solution goes through.
+     * @param cell The cell index.
+     * @param value The number to take back.
+     * @return The hint.
+     */
+    public static Hint removal(int cell, int value) {
+        return new Hint(cell, value, null, true);
+    }
+
+    /**
+     * @return The cell index.
+     */
+    public int getCell() {
+        return cell;
+    }
+
+    /**
+     * @return The suggested number, or the number to take back for a removal.
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * @return Technique that deduces the number, null if it was taken from the solution or is a removal.
+     */
+    public Technique getTechnique() {
+        return technique;
+    }
+
+    /**
+     * @return true if the number in the cell has to be taken back.
+     */
+    public boolean isRemoval() {
+        return removal;
+    }
+
+    @Override
+    public String toString() {
+        if (removal) {
+            return "remove " + value + " at cell " + cell;
+        }
+        return value + " at cell " + cell + " by " + (technique == null ? "solution" : technique);
+    }
+}
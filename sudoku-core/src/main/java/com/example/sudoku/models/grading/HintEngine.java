@@ -0,0 +1,372 @@
+package com.example.sudoku.models.grading;
+
+import com.example.sudoku.metrics.Histogram;
+import com.example.sudoku.metrics.Metrics;
+import com.example.sudoku.models.Board;
+import com.example.sudoku.models.GameState;
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.solver.Engine;
+import com.example.sudoku.models.solver.ProgressChecker;
+import com.example.sudoku.models.solver.Solver;
+
+import jdk.jfr.EventType;
+
+import java.util.Arrays;
+
+/**
+ * This class suggests the next logical step of a game in progress.
+ * It follows the edits of a {@link GameState} and keeps, for every empty cell, the bitmask of the numbers that
+ * its row, column and box still allow, and for every unit and number the count of cells that still allow it.
+ * From those it maintains the sets of naked singles and hidden singles, so a hint is read from the front of a
+ * set instead of being searched for, and each edit only revisits the three units of the edited cell.
+ * Singles are only sound on a board that can still be completed, so each hint first checks the board: a
+ * number that repeats, an empty cell with no candidate left, or a board that no solution extends gets a hint
+ * to take back one of the player's numbers instead. When no single is available the hint falls back to the
+ * number of an empty cell in a solution of the current board, which may differ from the stored one if the
+ * puzzle has several.
+ * Instances are not thread-safe. Geometries of more than 64 numbers are not supported.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class HintEngine implements GameState.Listener {
+    private static final EventType HINT_EVENT = EventType.getEventType(HintEvent.class);
+    private static final Histogram HINTS = Metrics.histogram("hint.nanos");
+
+    private final GameState state;
+    private final Geometry geometry;
+    private final int size;
+    private final long full;
+
+    private final byte[] values;
+    private final long[] used;
+    private final long[] candidates;
+
+    /**
+     * Number of empty cells of unit u that allow number n, stored at u * size + n - 1.
+     */
+    private final int[] places;
+    private final IndexSet emptyCells;
+    private final IndexSet nakedSingles;
+
+    /**
+     * Empty cells that no number fits.
+     */
+    private final IndexSet deadEnds;
+
+    /**
+     * Unit and number pairs, stored as u * size + n - 1, where the number is missing and fits in one cell.
+     */
+    private final IndexSet hiddenSingles;
+
+    private final ProgressChecker checker;
+    private final Board board;
+    private final Solver solver;
+
+    /**
+     * The board as the player left it, then the givens plus the numbers kept while looking for a wrong one.
+     */
+    private final byte[] grid;
+
+    /**
+     * Constructor for the HintEngine class. The engine registers itself as a listener of the game.
+     * @param state The numbers on the board.
+     * @throws IllegalArgumentException if the geometry has more than 64 numbers.
+     */
+    public HintEngine(GameState state) {
+        this.geometry = state.getGeometry();
+        if (geometry.getSize() > Long.SIZE) {
+            throw new IllegalArgumentException("Hints support up to 64 numbers, got " + geometry);
+        }
+
+        this.state = state;
+        this.size = geometry.getSize();
+        this.full = size == Long.SIZE ? -1L : (1L << size) - 1;
+
+        int cells = geometry.getCellCount();
+        this.values = new byte[cells];
+        this.used = new long[3 * size];
+        this.candidates = new long[cells];
+        this.places = new int[3 * size * size];
+        this.emptyCells = new IndexSet(cells);
+        this.nakedSingles = new IndexSet(cells);
+        this.deadEnds = new IndexSet(cells);
+        this.hiddenSingles = new IndexSet(3 * size * size);
+        this.checker = new ProgressChecker(geometry);
+        this.board = new Board(geometry);
+        this.solver = Engine.DANCING_LINKS.create(geometry);
+        this.grid = new byte[cells];
+
+        for (int unit = 0; unit < used.length; unit++) {
+            for (int n = 1; n <= size; n++) {
+                if (state.getUnitCount(unit, n) > 0) {
+                    used[unit] |= 1L << (n - 1);
+                }
+            }
+        }
+
+        for (int cell = 0; cell < cells; cell++) {
+            values[cell] = (byte) state.get(cell);
+            if (values[cell] == 0) {
+                emptyCells.add(cell);
+            }
+            refreshCell(cell);
+        }
+
+        state.addListener(this);
+    }
+
+    /**
+     * Suggests the next step: a number to take back if the board cannot be completed, otherwise a naked
+     * single if there is one, then a hidden single, then the number of an empty cell in a solution.
+     * @return The hint, null if the board is solved.
+     */
+    public Hint next() {
+        HintEvent event = HINT_EVENT.isEnabled() ? new HintEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        long start = Metrics.start();
+
+        Hint hint = find();
+
+        HINTS.recordSince(start);
+        if (event != null && event.shouldCommit()) {
+            event.cell = hint == null ? -1 : hint.getCell();
+            event.technique = hint == null || hint.getTechnique() == null ? null : hint.getTechnique().name();
+            event.commit();
+        }
+        return hint;
+    }
+
+    /**
+     * Checks the board, then reads the next step from the sets of singles.
+     * @return The hint, null if the board is solved.
+     */
+    private Hint find() {
+        state.copyTo(grid);
+        if (!deadEnds.isEmpty() || state.getConflictCount() > 0 || !checker.check(grid).isCompletable()) {
+            int cell = wrongEntry();
+            return cell < 0 ? null : Hint.removal(cell, values[cell]);
+        }
+
+        if (!nakedSingles.isEmpty()) {
+            int cell = nakedSingles.first();
+            return new Hint(cell, Long.numberOfTrailingZeros(candidates[cell]) + 1, Technique.NAKED_SINGLE);
+        }
+
+        if (!hiddenSingles.isEmpty()) {
+            int key = hiddenSingles.first();
+            int unit = key / size;
+            long bit = 1L << (key % size);
+            for (int i = 0; i < size; i++) {
+                int cell = geometry.unitCell(unit, i);
+                if ((candidates[cell] & bit) != 0) {
+                    return new Hint(cell, key % size + 1, Technique.HIDDEN_SINGLE);
+                }
+            }
+        }
+
+        if (emptyCells.isEmpty()) {
+            return null;
+        }
+
+        board.load(grid);
+        solver.solve(board);
+        int cell = emptyCells.first();
+        return new Hint(cell, board.get(cell), null);
+    }
+
+    /**
+     * Finds a number of the player's that keeps the board from being completed: one that repeats in its
+     * row, column or box, or else the first one that, added in cell order to the givens and the numbers kept
+     * so far, leaves a board with no solution.
+     * @return The cell of the number, -1 if the givens alone have no solution.
+     */
+    private int wrongEntry() {
+        for (int cell = 0; cell < values.length; cell++) {
+            if (state.isConflicting(cell) && !state.isGiven(cell)) {
+                return cell;
+            }
+        }
+
+        for (int cell = 0; cell < values.length; cell++) {
+            grid[cell] = state.isGiven(cell) ? values[cell] : 0;
+        }
+        for (int cell = 0; cell < values.length; cell++) {
+            if (values[cell] != 0 && !state.isGiven(cell)) {
+                grid[cell] = values[cell];
+                if (!checker.check(grid).isCompletable()) {
+                    return cell;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param cell The cell index.
+     * @return Bitmask of the numbers still allowed in the cell, bit n - 1 for number n, 0 if it is filled.
+     */
+    public long getCandidates(int cell) {
+        return candidates[cell];
+    }
+
+    @Override
+    public void onCellChanged(int cell, int value) {
+        int old = values[cell];
+        values[cell] = (byte) value;
+
+        if (value == 0) {
+            emptyCells.add(cell);
+        } else {
+            emptyCells.remove(cell);
+        }
+
+        int row = geometry.rowOf(cell);
+        int col = size + geometry.colOf(cell);
+        int box = 2 * size + geometry.boxOf(cell);
+        refreshUsed(row, old, value);
+        refreshUsed(col, old, value);
+        refreshUsed(box, old, value);
+
+        for (int i = 0; i < size; i++) {
+            refreshCell(geometry.unitCell(row, i));
+            refreshCell(geometry.unitCell(col, i));
+            refreshCell(geometry.unitCell(box, i));
+        }
+    }
+
+    @Override
+    public void onConflictChanged(int cell, boolean conflicting) {
+        // Candidates depend on the numbers placed, not on whether they repeat.
+    }
+
+    /**
+     * Updates the numbers placed in a unit after a cell of it went from one number to another.
+     * @param unit The unit index.
+     * @param old The previous number, 0 if the cell was empty.
+     * @param value The new number, 0 if the cell was emptied.
+     */
+    private void refreshUsed(int unit, int old, int value) {
+        if (old != 0) {
+            refreshUsed(unit, old);
+        }
+        if (value != 0) {
+            refreshUsed(unit, value);
+        }
+    }
+
+    /**
+     * Updates whether a number is placed in a unit.
+     * @param unit The unit index.
+     * @param n The number.
+     */
+    private void refreshUsed(int unit, int n) {
+        long bit = 1L << (n - 1);
+        if (state.getUnitCount(unit, n) > 0) {
+            used[unit] |= bit;
+        } else {
+            used[unit] &= ~bit;
+        }
+        refreshHidden(unit * size + n - 1);
+    }
+
+    /**
+     * Recomputes the candidates of a cell and the counts and sets that depend on them.
+     * @param cell The cell index.
+     */
+    private void refreshCell(int cell) {
+        int row = geometry.rowOf(cell);
+        int col = size + geometry.colOf(cell);
+        int box = 2 * size + geometry.boxOf(cell);
+
+        long next = values[cell] != 0 ? 0 : full & ~(used[row] | used[col] | used[box]);
+        if (next == 0 && values[cell] == 0) {
+            deadEnds.add(cell);
+        } else {
+            deadEnds.remove(cell);
+        }
+
+        long changed = next ^ candidates[cell];
+        if (changed == 0) {
+            return;
+        }
+        candidates[cell] = next;
+
+        while (changed != 0) {
+            long bit = changed & -changed;
+            changed ^= bit;
+
+            int n = Long.numberOfTrailingZeros(bit);
+            int delta = (next & bit) != 0 ? 1 : -1;
+            places[row * size + n] += delta;
+            places[col * size + n] += delta;
+            places[box * size + n] += delta;
+            refreshHidden(row * size + n);
+            refreshHidden(col * size + n);
+            refreshHidden(box * size + n);
+        }
+
+        if (next != 0 && (next & (next - 1)) == 0) {
+            nakedSingles.add(cell);
+        } else {
+            nakedSingles.remove(cell);
+        }
+    }
+
+    /**
+     * Recomputes whether a number is a hidden single of a unit.
+     * @param key The unit and number, as unit * size + n - 1.
+     */
+    private void refreshHidden(int key) {
+        if (places[key] == 1 && (used[key / size] & (1L << (key % size))) == 0) {
+            hiddenSingles.add(key);
+        } else {
+            hiddenSingles.remove(key);
+        }
+    }
+
+    /**
+     * Set of small integers with constant time insertion, removal and access to an element.
+     */
+    private static class IndexSet {
+        private final int[] items;
+        private final int[] positions;
+        private int count;
+
+        /**
+         * Constructor for the IndexSet class.
+         * @param capacity Integers go from 0 to capacity - 1.
+         */
+        IndexSet(int capacity) {
+            this.items = new int[capacity];
+            this.positions = new int[capacity];
+            Arrays.fill(positions, -1);
+        }
+
+        void add(int i) {
+            if (positions[i] < 0) {
+                positions[i] = count;
+                items[count++] = i;
+            }
+        }
+
+        void remove(int i) {
+            int position = positions[i];
+            if (position >= 0) {
+                int last = items[--count];
+                items[position] = last;
+                positions[last] = position;
+                positions[i] = -1;
+            }
+        }
+
+        boolean isEmpty() {
+            return count == 0;
+        }
+
+        int first() {
+            return items[0];
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.sudoku.models.grading;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This class is the Flight Recorder event of one hint request.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+@Name("com.example.sudoku.Hint")
+@Label("Hint")
+@Category("Sudoku")
+@Description("A hint suggested to the player")
+@StackTrace(false)
+class HintEvent extends Event {
+    @Label("Cell")
+    @Description("Cell of the hint, -1 if the board was full")
+    int cell;
+
+    @Label("Technique")
+    @Description("Deduction behind the hint, null if it came from the solution")
+    String technique;
+}
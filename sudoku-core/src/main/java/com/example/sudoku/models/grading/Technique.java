@@ -0,0 +1,62 @@
+package com.example.sudoku.models.grading;
+
+/**
+ * This enum lists the human solving techniques known by the {@link DifficultyGrader}, from the easiest to
+ * the hardest.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public enum Technique {
+    /**
+     * A cell has a single candidate left.
+     */
+    NAKED_SINGLE(1),
+
+    /**
+     * A number fits in a single cell of a row, column or box.
+     */
+    HIDDEN_SINGLE(2),
+
+    /**
+     * Inside a box, a number is confined to one row or column, so it leaves the rest of that line.
+     */
+    POINTING(4),
+
+    /**
+     * Inside a row or column, a number is confined to one box, so it leaves the rest of that box.
+     */
+    BOX_LINE(5),
+
+    /**
+     * Two cells of a unit share the same two candidates, which leave the other cells of the unit.
+     */
+    NAKED_PAIR(6),
+
+    /**
+     * Two numbers fit in the same two cells only, so those cells lose every other candidate.
+     */
+    HIDDEN_PAIR(8),
+
+    /**
+     * A number fits in the same two columns of two rows, or the same two rows of two columns, so it leaves
+     * the rest of those columns or rows.
+     */
+    X_WING(12);
+
+    private final int weight;
+
+    /**
+     * Constructor for the Technique enum.
+     * @param weight Score added each time the technique is applied.
+     */
+    Technique(int weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * @return Score added each time the technique is applied.
+     */
+    public int getWeight() {
+        return weight;
+    }
+}
@@ -0,0 +1,449 @@
+package com.example.sudoku.models.io;
+
+import com.example.sudoku.models.Difficulty;
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.Sudoku;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * This class records a game as an append-only file of moves, so it can be resumed after the program closes
+ * and its moves undone and redone.
+ * <p>
+ * The file starts with a header holding the magic number, the format version, the box rows and columns, the
+ * seed, the difficulty ordinal (or -1), the start time in milliseconds, the offset of the last snapshot (0
+ * if there is none yet), and then the puzzle itself, one byte per cell of solution and a bitmask of givens,
+ * padded to a multiple of 8 bytes. Each move, undo or redo is one 8-byte record: 2 bits of kind, 14 bits of
+ * cell, 7 bits of old number, 7 bits of new number and 34 bits of milliseconds since the start. Every
+ * {@value #SNAPSHOT_INTERVAL} records a snapshot follows, one record of kind snapshot and one byte per cell
+ * padded to 8 bytes, and the header is pointed at it, so opening a journal replays at most one snapshot and
+ * the records after it whatever the length of the game. Everything is big-endian.
+ * <p>
+ * Records are packed into a buffer and written through the channel when it fills, on every snapshot, and
+ * on {@link #flush()} and {@link #close()}; a record or snapshot cut short by a crash is dropped when the
+ * journal is opened, and if the header points at a snapshot that is not whole the file is replayed from its
+ * first record. Undo and redo move a cursor over the moves in memory, which after opening a journal go back to its
+ * last snapshot.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class MoveJournal implements AutoCloseable {
+    static final int MAGIC = 0x53444B4A;
+    static final short VERSION = 1;
+    static final int SNAPSHOT_OFFSET = 32;
+    static final int PUZZLE_OFFSET = 40;
+    static final int RECORD_SIZE = Long.BYTES;
+
+    /**
+     * Records written between two snapshots.
+     */
+    static final int SNAPSHOT_INTERVAL = 128;
+
+    static final int MOVE = 0;
+    static final int UNDO = 1;
+    static final int REDO = 2;
+    static final int SNAPSHOT = 3;
+
+    private static final int BUFFER_SIZE = 1 << 12;
+    private static final long MAX_MILLIS = (1L << 34) - 1;
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final Sudoku sudoku;
+    private final int headerSize;
+    private final int snapshotSize;
+    private final long startMillis;
+
+    /**
+     * Numbers on the board after the last record.
+     */
+    private final byte[] values;
+
+    /**
+     * Moves that can be undone or redone, each packed as cell << 16 | old << 8 | new.
+     */
+    private int[] moves = new int[64];
+    private int moveCount;
+    private int cursor;
+    private int sinceSnapshot;
+
+    /**
+     * Offset in the file of the next record, counting the records still in the buffer.
+     */
+    private long position;
+
+    /**
+     * Constructor for the MoveJournal class.
+     * @param channel Channel of the journal file, open for reading and writing.
+     * @param sudoku The puzzle being played.
+     * @param startMillis Start time of the game.
+     */
+    private MoveJournal(FileChannel channel, Sudoku sudoku, long startMillis) {
+        Geometry geometry = sudoku.getGeometry();
+        int cells = geometry.getCellCount();
+
+        this.channel = channel;
+        this.sudoku = sudoku;
+        this.startMillis = startMillis;
+        this.headerSize = padded(PUZZLE_OFFSET + cells + (cells + 7) / 8);
+        this.snapshotSize = RECORD_SIZE + padded(cells);
+        this.buffer = ByteBuffer.allocate(Math.max(BUFFER_SIZE, headerSize + snapshotSize));
+        this.values = new byte[cells];
+
+        for (int cell = 0; cell < cells; cell++) {
+            int row = geometry.rowOf(cell);
+            int col = geometry.colOf(cell);
+            if (sudoku.isGiven(row, col)) {
+                values[cell] = (byte) sudoku.getNumber(row, col);
+            }
+        }
+    }
+
+    /**
+     * Starts the journal of a new game, creating or truncating the file and its parent directories.
+     * @param path The journal file.
+     * @param sudoku The puzzle being played.
+     * @return The journal, with the givens on the board and no moves.
+     * @throws IOException if the file cannot be written.
+     */
+    public static MoveJournal create(Path path, Sudoku sudoku) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            MoveJournal journal = new MoveJournal(channel, sudoku, System.currentTimeMillis());
+            journal.writeHeader();
+            return journal;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the journal of a game to resume it, replaying its last snapshot and the records after it.
+     * @param path The journal file.
+     * @return The journal, with the board as the last record left it.
+     * @throws IOException if the file cannot be read or is not a journal.
+     */
+    public static MoveJournal open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            ByteBuffer header = ByteBuffer.allocate(PUZZLE_OFFSET);
+            read(channel, header, 0);
+            if (header.remaining() < PUZZLE_OFFSET || header.getInt() != MAGIC || header.getShort() != VERSION) {
+                throw new IOException("Not a move journal: " + path);
+            }
+
+            Geometry geometry = Geometry.of(header.get(), header.get());
+            long seed = header.getLong();
+            int ordinal = header.get();
+            long startMillis = header.getLong(24);
+            long snapshot = header.getLong(SNAPSHOT_OFFSET);
+
+            int cells = geometry.getCellCount();
+            ByteBuffer puzzle = ByteBuffer.allocate(cells + (cells + 7) / 8);
+            read(channel, puzzle, PUZZLE_OFFSET);
+            if (puzzle.remaining() < puzzle.capacity()) {
+                throw new IOException("Truncated move journal: " + path);
+            }
+
+            byte[] solution = new byte[cells];
+            puzzle.get(solution);
+            byte[] mask = new byte[(cells + 7) / 8];
+            puzzle.get(mask);
+
+            Sudoku sudoku;
+            try {
+                sudoku = new Sudoku(geometry, solution, BitSet.valueOf(mask), seed,
+                        ordinal < 0 ? null : DIFFICULTIES[ordinal]);
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                throw new IOException("Invalid puzzle in move journal: " + path, e);
+            }
+
+            MoveJournal journal = new MoveJournal(channel, sudoku, startMillis);
+            journal.replay(snapshot < journal.headerSize ? journal.headerSize : snapshot);
+            return journal;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return The puzzle being played.
+     */
+    public Sudoku getSudoku() {
+        return sudoku;
+    }
+
+    /**
+     * @param cell The cell index.
+     * @return The number in the cell, 0 if it is empty.
+     */
+    public int get(int cell) {
+        return values[cell];
+    }
+
+    /**
+     * @return true if there is a move to undo.
+     */
+    public boolean canUndo() {
+        return cursor > 0;
+    }
+
+    /**
+     * @return true if there is an undone move to redo.
+     */
+    public boolean canRedo() {
+        return cursor < moveCount;
+    }
+
+    /**
+     * Records a move, dropping the moves that were undone.
+     * @param cell The cell index.
+     * @param value The new number, 0 if the cell was emptied.
+     * @throws IOException if the buffer cannot be written.
+     */
+    public void record(int cell, int value) throws IOException {
+        int old = values[cell];
+        if (old == value) {
+            return;
+        }
+
+        if (cursor == moves.length) {
+            moves = Arrays.copyOf(moves, moves.length * 2);
+        }
+        moves[cursor++] = cell << 16 | old << 8 | value;
+        moveCount = cursor;
+        append(MOVE, cell, old, value);
+    }
+
+    /**
+     * Takes back the last move.
+     * @return The cell the move changed, whose number is back to what it was, or -1 if there is no move.
+     * @throws IOException if the buffer cannot be written.
+     */
+    public int undo() throws IOException {
+        if (!canUndo()) {
+            return -1;
+        }
+
+        int move = moves[--cursor];
+        int cell = move >>> 16;
+        append(UNDO, cell, move & 0xFF, move >>> 8 & 0xFF);
+        return cell;
+    }
+
+    /**
+     * Plays again the last move taken back.
+     * @return The cell the move changed, or -1 if there is no move.
+     * @throws IOException if the buffer cannot be written.
+     */
+    public int redo() throws IOException {
+        if (!canRedo()) {
+            return -1;
+        }
+
+        int move = moves[cursor++];
+        int cell = move >>> 16;
+        append(REDO, cell, move >>> 8 & 0xFF, move & 0xFF);
+        return cell;
+    }
+
+    /**
+     * Writes the buffered records to the file.
+     * @throws IOException if the write fails.
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Flushes the buffered records and closes the file.
+     * @throws IOException if the write fails.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Appends a record, then a snapshot every {@value #SNAPSHOT_INTERVAL} records.
+     * @param kind The kind of record.
+     * @param cell The cell index.
+     * @param old The number the record takes out of the cell.
+     * @param value The number the record puts into the cell.
+     * @throws IOException if the buffer cannot be written.
+     */
+    private void append(int kind, int cell, int old, int value) throws IOException {
+        values[cell] = (byte) value;
+
+        long millis = Math.min(Math.max(0, System.currentTimeMillis() - startMillis), MAX_MILLIS);
+        if (buffer.remaining() < RECORD_SIZE) {
+            flush();
+        }
+        buffer.putLong((long) kind << 62 | (long) cell << 48 | (long) old << 41 | (long) value << 34 | millis);
+        position += RECORD_SIZE;
+
+        if (++sinceSnapshot == SNAPSHOT_INTERVAL) {
+            snapshot();
+        }
+    }
+
+    /**
+     * Appends a snapshot of the board, writes it to the file and points the header at it.
+     * @throws IOException if the write fails.
+     */
+    private void snapshot() throws IOException {
+        if (buffer.remaining() < snapshotSize) {
+            flush();
+        }
+
+        long offset = position;
+        buffer.putLong((long) SNAPSHOT << 62);
+        buffer.put(values);
+        buffer.position(buffer.position() + snapshotSize - RECORD_SIZE - values.length);
+        position += snapshotSize;
+        sinceSnapshot = 0;
+
+        flush();
+        channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, offset), SNAPSHOT_OFFSET);
+    }
+
+    /**
+     * Writes the header of a new journal.
+     * @throws IOException if the write fails.
+     */
+    private void writeHeader() throws IOException {
+        Geometry geometry = sudoku.getGeometry();
+        Difficulty difficulty = sudoku.getDifficulty();
+
+        buffer.putInt(MAGIC)
+                .putShort(VERSION)
+                .put((byte) geometry.getBoxRows())
+                .put((byte) geometry.getBoxCols())
+                .putLong(sudoku.getSeed())
+                .put(difficulty == null ? (byte) -1 : (byte) difficulty.ordinal());
+        buffer.putLong(24, startMillis);
+        buffer.position(PUZZLE_OFFSET);
+
+        BitSet givens = new BitSet(values.length);
+        for (int cell = 0; cell < values.length; cell++) {
+            int row = geometry.rowOf(cell);
+            int col = geometry.colOf(cell);
+            buffer.put((byte) sudoku.getNumber(row, col));
+            givens.set(cell, sudoku.isGiven(row, col));
+        }
+        buffer.put(Arrays.copyOf(givens.toByteArray(), (values.length + 7) / 8));
+        buffer.position(headerSize);
+
+        position = headerSize;
+        flush();
+    }
+
+    /**
+     * Replays the records from an offset to the end of the file, dropping a record cut short at the end.
+     * @param offset Offset of the last snapshot, or of the first record if there is none.
+     * @throws IOException if the file cannot be read.
+     */
+    private void replay(long offset) throws IOException {
+        ByteBuffer records = ByteBuffer.allocate((int) Math.max(0, channel.size() - offset));
+        read(channel, records, offset);
+
+        if (offset != headerSize && (records.remaining() < snapshotSize || records.getLong(0) >>> 62 != SNAPSHOT)) {
+            replay(headerSize);
+            return;
+        }
+
+        while (records.remaining() >= RECORD_SIZE) {
+            int start = records.position();
+            long record = records.getLong();
+            int kind = (int) (record >>> 62);
+            int cell = (int) (record >>> 48) & 0x3FFF;
+            int old = (int) (record >>> 41) & 0x7F;
+            int value = (int) (record >>> 34) & 0x7F;
+
+            if (kind == SNAPSHOT) {
+                if (records.remaining() < snapshotSize - RECORD_SIZE) {
+                    records.position(start);
+                    break;
+                }
+                records.get(values);
+                records.position(start + snapshotSize);
+                moveCount = 0;
+                cursor = 0;
+                sinceSnapshot = 0;
+                continue;
+            }
+            if (cell >= values.length || old > sudoku.getGeometry().getSize()
+                    || value > sudoku.getGeometry().getSize()) {
+                records.position(start);
+                break;
+            }
+
+            values[cell] = (byte) value;
+            sinceSnapshot++;
+            if (kind == MOVE) {
+                if (cursor == moves.length) {
+                    moves = Arrays.copyOf(moves, moves.length * 2);
+                }
+                moves[cursor++] = cell << 16 | old << 8 | value;
+                moveCount = cursor;
+            } else if (kind == UNDO && cursor > 0) {
+                cursor--;
+            } else if (kind == REDO && cursor < moveCount) {
+                cursor++;
+            }
+        }
+
+        position = offset + records.position();
+        channel.truncate(position);
+        channel.position(position);
+    }
+
+    /**
+     * Reads from a position until the buffer is full or the file ends, then flips the buffer.
+     * @param channel The channel.
+     * @param buffer The buffer.
+     * @param position Offset of the first byte to read.
+     * @throws IOException if the read fails.
+     */
+    private static void read(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        int read;
+        while (buffer.hasRemaining() && (read = channel.read(buffer, position + buffer.position())) >= 0) {
+            if (read == 0) {
+                break;
+            }
+        }
+        buffer.flip();
+    }
+
+    /**
+     * @param bytes A length.
+     * @return The length rounded up to a multiple of 8.
+     */
+    private static int padded(int bytes) {
+        return (bytes + 7) & -8;
+    }
+}
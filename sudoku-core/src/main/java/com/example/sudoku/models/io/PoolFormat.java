@@ -0,0 +1,45 @@
+package com.example.sudoku.models.io;
+
+import com.example.sudoku.models.Geometry;
+
+/**
+ * This class describes the layout of a puzzle pool file.
+ * <p>
+ * The file starts with a {@value #HEADER_SIZE}-byte header: the magic number, the format version, the box
+ * rows and columns, the record size and the number of records. Records follow with a fixed size each:
+ * the 8-byte seed, one byte with the difficulty ordinal (or {@value #NO_DIFFICULTY}), the solution packed as
+ * one nibble per cell for geometries of up to 16 numbers or one byte per cell above that, each holding the
+ * number minus one, and finally the givens as a bitmask with one bit per cell. Everything is big-endian.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+final class PoolFormat {
+    static final int MAGIC = 0x53444B50;
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int COUNT_OFFSET = 16;
+    static final byte NO_DIFFICULTY = -1;
+
+    static final int SEED_OFFSET = 0;
+    static final int DIFFICULTY_OFFSET = 8;
+    static final int SOLUTION_OFFSET = 9;
+
+    final Geometry geometry;
+    final boolean nibbles;
+    final int solutionBytes;
+    final int givensOffset;
+    final int recordSize;
+
+    /**
+     * Constructor for the PoolFormat class.
+     * @param geometry Shape of the puzzles of the pool.
+     */
+    PoolFormat(Geometry geometry) {
+        int cells = geometry.getCellCount();
+        this.geometry = geometry;
+        this.nibbles = geometry.getSize() <= 16;
+        this.solutionBytes = nibbles ? (cells + 1) / 2 : cells;
+        this.givensOffset = SOLUTION_OFFSET + solutionBytes;
+        this.recordSize = givensOffset + (cells + 7) / 8;
+    }
+}
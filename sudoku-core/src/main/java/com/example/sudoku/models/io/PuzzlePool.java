@@ -0,0 +1,215 @@
+package com.example.sudoku.models.io;
+
+import com.example.sudoku.models.Difficulty;
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.Sudoku;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+
+/**
+ * This class reads a pool file written by {@link PuzzlePoolWriter} through memory-mapped buffers, or a
+ * pool already in memory such as a resource bundled with the application.
+ * Records have a fixed size, so reaching puzzle k is a multiplication; the cell accessors read straight from
+ * the mapping without creating any object. Files larger than a single mapping are split into segments that
+ * each hold a whole number of records.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class PuzzlePool implements AutoCloseable {
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+
+    private final PoolFormat format;
+    private final FileChannel channel;
+    private final ByteBuffer[] segments;
+    private final long recordsPerSegment;
+    private final long count;
+
+    /**
+     * Constructor for the PuzzlePool class, maps the file for reading.
+     * @param path The pool file.
+     * @throws IOException if the file cannot be read or is not a pool file.
+     */
+    public PuzzlePool(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+
+        try {
+            ByteBuffer header = ByteBuffer.allocate(PoolFormat.HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0);
+            header.flip();
+
+            this.format = readHeader(header, path);
+            this.count = Math.min(header.getLong(PoolFormat.COUNT_OFFSET),
+                    (channel.size() - PoolFormat.HEADER_SIZE) / format.recordSize);
+            this.recordsPerSegment = Integer.MAX_VALUE / format.recordSize;
+            this.segments = new ByteBuffer[(int) ((count + recordsPerSegment - 1) / recordsPerSegment)];
+
+            for (int i = 0; i < segments.length; i++) {
+                long first = i * recordsPerSegment;
+                long records = Math.min(recordsPerSegment, count - first);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        PoolFormat.HEADER_SIZE + first * format.recordSize, records * format.recordSize);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Constructor for the PuzzlePool class, reads a pool held in memory.
+     * @param data The whole pool file, from its header on. It is not copied.
+     * @param name Name of the pool, used in error messages.
+     * @throws IOException if the data is not a pool file.
+     */
+    public PuzzlePool(ByteBuffer data, String name) throws IOException {
+        this.channel = null;
+
+        ByteBuffer header = data.slice().limit(Math.min(data.remaining(), PoolFormat.HEADER_SIZE));
+        this.format = readHeader(header, name);
+        this.count = Math.min(header.getLong(PoolFormat.COUNT_OFFSET),
+                (data.remaining() - PoolFormat.HEADER_SIZE) / format.recordSize);
+        this.recordsPerSegment = Integer.MAX_VALUE / format.recordSize;
+        this.segments = new ByteBuffer[] {
+                data.slice(data.position() + PoolFormat.HEADER_SIZE, (int) count * format.recordSize)
+        };
+    }
+
+    /**
+     * Checks the header of a pool and reads its format.
+     * @param header The header, positioned at its start.
+     * @param source The file or name of the pool, used in error messages.
+     * @return The format of the records.
+     * @throws IOException if the header is not that of a pool file.
+     */
+    private static PoolFormat readHeader(ByteBuffer header, Object source) throws IOException {
+        if (header.remaining() < PoolFormat.HEADER_SIZE || header.getInt() != PoolFormat.MAGIC
+                || header.getShort() != PoolFormat.VERSION) {
+            throw new IOException("Not a puzzle pool: " + source);
+        }
+
+        Geometry geometry;
+        try {
+            geometry = Geometry.of(header.get(), header.get());
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Not a puzzle pool: " + source, e);
+        }
+
+        PoolFormat format = new PoolFormat(geometry);
+        if (header.getInt() != format.recordSize) {
+            throw new IOException("Unexpected record size in " + source);
+        }
+        return format;
+    }
+
+    /**
+     * @return Number of puzzles in the pool.
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * @return Shape of the puzzles of the pool.
+     */
+    public Geometry getGeometry() {
+        return format.geometry;
+    }
+
+    /**
+     * @param k Index of the puzzle.
+     * @return The seed the puzzle was generated from.
+     */
+    public long getSeed(long k) {
+        return segment(k).getLong(offset(k) + PoolFormat.SEED_OFFSET);
+    }
+
+    /**
+     * @param k Index of the puzzle.
+     * @return The difficulty the puzzle was carved for, null if unknown.
+     */
+    public Difficulty getDifficulty(long k) {
+        int ordinal = segment(k).get(offset(k) + PoolFormat.DIFFICULTY_OFFSET);
+        return ordinal < 0 ? null : DIFFICULTIES[ordinal];
+    }
+
+    /**
+     * Reads the solution of one cell.
+     * @param k Index of the puzzle.
+     * @param cell The cell index.
+     * @return The number of the cell in the solution.
+     */
+    public int getNumber(long k, int cell) {
+        int base = offset(k) + PoolFormat.SOLUTION_OFFSET;
+
+        if (format.nibbles) {
+            int packed = segment(k).get(base + (cell >>> 1));
+            return ((packed >>> ((cell & 1) << 2)) & 0xF) + 1;
+        }
+
+        return segment(k).get(base + cell) + 1;
+    }
+
+    /**
+     * Checks if a cell is shown to the player.
+     * @param k Index of the puzzle.
+     * @param cell The cell index.
+     * @return true if the cell is a given.
+     */
+    public boolean isGiven(long k, int cell) {
+        int packed = segment(k).get(offset(k) + format.givensOffset + (cell >>> 3));
+        return (packed & (1 << (cell & 7))) != 0;
+    }
+
+    /**
+     * Builds the puzzle at an index.
+     * @param k Index of the puzzle.
+     * @return The puzzle.
+     */
+    public Sudoku get(long k) {
+        Geometry geometry = format.geometry;
+        byte[] solution = new byte[geometry.getCellCount()];
+        BitSet givens = new BitSet(solution.length);
+
+        for (int cell = 0; cell < solution.length; cell++) {
+            solution[cell] = (byte) getNumber(k, cell);
+            if (isGiven(k, cell)) {
+                givens.set(cell);
+            }
+        }
+
+        return new Sudoku(geometry, solution, givens, getSeed(k), getDifficulty(k));
+    }
+
+    /**
+     * Finds the mapping that holds a puzzle.
+     * @param k Index of the puzzle.
+     * @return The segment.
+     */
+    private ByteBuffer segment(long k) {
+        if (k < 0 || k >= count) {
+            throw new IndexOutOfBoundsException("Puzzle " + k + " out of " + count);
+        }
+        return segments[(int) (k / recordsPerSegment)];
+    }
+
+    /**
+     * Computes where a puzzle starts inside its segment.
+     * @param k Index of the puzzle.
+     * @return The byte offset.
+     */
+    private int offset(long k) {
+        return (int) (k % recordsPerSegment) * format.recordSize;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.sudoku.models.io;
+
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.Sudoku;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * This class writes puzzles sequentially into a pool file readable by {@link PuzzlePool}.
+ * Records are packed into a reusable buffer and flushed to the channel in large blocks; the record count in
+ * the header is written when the writer is closed. Appends are synchronized, so a writer can be used as the
+ * sink of a {@link com.example.sudoku.models.BulkGenerator}.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class PuzzlePoolWriter implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final PoolFormat format;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final byte[] record;
+    private long count;
+
+    /**
+     * Constructor for the PuzzlePoolWriter class, creates or truncates the file.
+     * @param path The pool file.
+     * @param geometry Shape of the puzzles that will be written.
+     * @throws IOException if the file cannot be opened.
+     */
+    public PuzzlePoolWriter(Path path, Geometry geometry) throws IOException {
+        this.format = new PoolFormat(geometry);
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocate(Math.max(BUFFER_SIZE, format.recordSize));
+        this.record = new byte[format.recordSize];
+
+        buffer.putInt(PoolFormat.MAGIC)
+                .putShort(PoolFormat.VERSION)
+                .put((byte) geometry.getBoxRows())
+                .put((byte) geometry.getBoxCols())
+                .putInt(format.recordSize);
+        buffer.position(PoolFormat.HEADER_SIZE);
+    }
+
+    /**
+     * Appends a puzzle to the pool.
+     * @param sudoku The puzzle, which must have the geometry of the pool.
+     * @throws IOException if the buffer cannot be flushed.
+     */
+    public synchronized void append(Sudoku sudoku) throws IOException {
+        Geometry geometry = format.geometry;
+        if (!sudoku.getGeometry().equals(geometry)) {
+            throw new IllegalArgumentException("Sudoku geometry " + sudoku.getGeometry() + " does not match " + geometry);
+        }
+
+        Arrays.fill(record, (byte) 0);
+        long seed = sudoku.getSeed();
+        for (int i = 0; i < 8; i++) {
+            record[PoolFormat.SEED_OFFSET + i] = (byte) (seed >>> (56 - 8 * i));
+        }
+        record[PoolFormat.DIFFICULTY_OFFSET] = sudoku.getDifficulty() == null
+                ? PoolFormat.NO_DIFFICULTY : (byte) sudoku.getDifficulty().ordinal();
+
+        for (int cell = 0; cell < geometry.getCellCount(); cell++) {
+            int row = geometry.rowOf(cell);
+            int col = geometry.colOf(cell);
+            int value = sudoku.getNumber(row, col) - 1;
+
+            if (format.nibbles) {
+                record[PoolFormat.SOLUTION_OFFSET + (cell >>> 1)] |= (byte) (value << ((cell & 1) << 2));
+            } else {
+                record[PoolFormat.SOLUTION_OFFSET + cell] = (byte) value;
+            }
+
+            if (sudoku.isGiven(row, col)) {
+                record[format.givensOffset + (cell >>> 3)] |= (byte) (1 << (cell & 7));
+            }
+        }
+
+        if (buffer.remaining() < record.length) {
+            flush();
+        }
+        buffer.put(record);
+        count++;
+    }
+
+    /**
+     * @return Number of puzzles appended so far.
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Writes the buffered records to the file.
+     * @throws IOException if the write fails.
+     */
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Flushes the remaining records, writes the record count into the header and closes the file.
+     * @throws IOException if the write fails.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            flush();
+            ByteBuffer header = ByteBuffer.allocate(Long.BYTES).putLong(0, count);
+            channel.write(header, PoolFormat.COUNT_OFFSET);
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,427 @@
+package com.example.sudoku.models.solver;
+
+import com.example.sudoku.models.Board;
+import com.example.sudoku.models.Geometry;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * This class solves boards by depth-first search on the board's own bitmasks, always branching on the
+ * empty cell with the fewest candidates. The search is a loop over an explicit trail allocated with the
+ * solver: one entry per branch holding the cell and the candidates not tried yet, as a mask tried in
+ * ascending order or, when filling at random, as a Fisher-Yates shuffle of the candidates, plus a stack of
+ * every cell placed, so the depth never depends on the call stack and a search allocates nothing. With propagation enabled, every placement is followed by the naked and hidden singles it forces,
+ * repeated until none is left, and a branch is abandoned as soon as a cell or a number runs out of places.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class BacktrackingSolver implements Solver {
+    /**
+     * Returned by {@link #mostConstrainedCell()} when the board is full.
+     */
+    private static final int FULL = -1;
+
+    /**
+     * Returned instead of a cell when propagation finds that the board has no solution.
+     */
+    private static final int CONTRADICTION = -2;
+
+    private final Geometry geometry;
+    private final int size;
+    private final int words;
+    private final boolean propagate;
+
+    /**
+     * Valid bits of the last word of a mask.
+     */
+    private final long lastWordMask;
+
+    /**
+     * Cell branched on at each depth of the trail.
+     */
+    private final int[] trailCells;
+
+    /**
+     * Candidates still to try at each depth, {@code words} longs per depth.
+     */
+    private final long[] trailCandidates;
+
+    /**
+     * Shuffled candidates of each depth when filling at random, {@code size} ints per depth.
+     */
+    private final int[] trailOrder;
+
+    /**
+     * Position in {@link #trailOrder} of the next candidate to try at each depth.
+     */
+    private final int[] trailNext;
+
+    /**
+     * Number of shuffled candidates at each depth.
+     */
+    private final int[] trailCounts;
+
+    /**
+     * Size of the placed stack when each depth was entered, undoing a depth pops back to it.
+     */
+    private final int[] trailMarks;
+
+    /**
+     * Cells placed by the search, in order.
+     */
+    private final int[] placed;
+
+    private Board board;
+    private RandomGenerator rand;
+    private long nodes;
+    private long nodeLimit;
+    private int depth;
+    private int placedCount;
+
+    /**
+     * Constructor for the BacktrackingSolver class, without propagation.
+     * @param geometry Shape of the boards it will solve.
+     */
+    public BacktrackingSolver(Geometry geometry) {
+        this(geometry, false);
+    }
+
+    /**
+     * Constructor for the BacktrackingSolver class.
+     * @param geometry Shape of the boards it will solve.
+     * @param propagate Whether to place the naked and hidden singles after every placement.
+     */
+    public BacktrackingSolver(Geometry geometry, boolean propagate) {
+        this.geometry = geometry;
+        this.size = geometry.getSize();
+        this.words = geometry.getWords();
+        this.propagate = propagate;
+
+        int rest = size & 63;
+        this.lastWordMask = rest == 0 ? -1L : (1L << rest) - 1;
+
+        this.trailCells = new int[geometry.getCellCount()];
+        this.trailCandidates = new long[geometry.getCellCount() * words];
+        this.trailOrder = new int[geometry.getCellCount() * size];
+        this.trailNext = new int[geometry.getCellCount()];
+        this.trailCounts = new int[geometry.getCellCount()];
+        this.trailMarks = new int[geometry.getCellCount()];
+        this.placed = new int[geometry.getCellCount()];
+    }
+
+    @Override
+    public boolean solve(Board board) {
+        start(board, null, Long.MAX_VALUE);
+        return fill();
+    }
+
+    @Override
+    public int countSolutions(Board board, int limit) {
+        start(board, null, Long.MAX_VALUE);
+
+        int count = next(false) ? 1 : 0;
+        while (count > 0 && count < limit && next(true)) {
+            count++;
+        }
+
+        unwind();
+        return count;
+    }
+
+    @Override
+    public boolean fill(Board board, RandomGenerator rand, long nodeLimit) {
+        start(board, rand, nodeLimit);
+        return fill();
+    }
+
+    @Override
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Prepares a search.
+     * @param board The board to search.
+     * @param rand Source of the random choices, null to try the candidates in order.
+     * @param nodeLimit Number of search nodes after which the search is abandoned.
+     * @throws IllegalArgumentException if the board does not have the geometry of the solver.
+     */
+    private void start(Board board, RandomGenerator rand, long nodeLimit) {
+        if (!board.getGeometry().equals(geometry)) {
+            throw new IllegalArgumentException("Board geometry " + board.getGeometry() + " does not match " + geometry);
+        }
+
+        this.board = board;
+        this.rand = rand;
+        this.nodes = 0;
+        this.nodeLimit = nodeLimit;
+        this.depth = -1;
+        this.placedCount = 0;
+    }
+
+    /**
+     * Fills the empty cells, keeping the first complete assignment.
+     * @return true if all cells are filled correctly, false otherwise, in which case the board is left as it was.
+     */
+    private boolean fill() {
+        if (next(false)) {
+            return true;
+        }
+
+        unwind();
+        return false;
+    }
+
+    /**
+     * Advances the search to the next complete assignment.
+     * @param resume false to start from the board as loaded, true to continue after the assignment found by
+     *               the previous call.
+     * @return true if an assignment was reached, false if there are no more or the node limit was reached.
+     */
+    private boolean next(boolean resume) {
+        boolean descend = !resume;
+
+        while (true) {
+            if (descend) {
+                int cell = propagate && !propagate() ? CONTRADICTION : mostConstrainedCell();
+                if (cell == FULL) {
+                    return true;
+                }
+
+                if (cell != CONTRADICTION) {
+                    if (++nodes > nodeLimit) {
+                        return false;
+                    }
+
+                    depth++;
+                    trailCells[depth] = cell;
+                    trailMarks[depth] = placedCount;
+                    if (rand == null) {
+                        for (int w = 0; w < words; w++) {
+                            trailCandidates[depth * words + w] = board.candidates(cell, w);
+                        }
+                    } else {
+                        shuffleCandidates(cell);
+                    }
+                }
+                descend = cell != CONTRADICTION;
+            }
+
+            if (depth < 0) {
+                return false;
+            }
+            if (!descend) {
+                undo(trailMarks[depth]);
+            }
+
+            int n = takeCandidate();
+            descend = n != 0;
+            if (descend) {
+                assign(trailCells[depth], n);
+            } else {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Places the naked singles, cells with a single candidate, and the hidden singles, numbers with a single
+     * place in a unit, until there are none left.
+     * @return false if some empty cell has no candidate or some number has no place in a unit.
+     */
+    private boolean propagate() {
+        boolean changed = true;
+
+        while (changed) {
+            changed = false;
+
+            for (int cell = 0; cell < geometry.getCellCount(); cell++) {
+                if (board.get(cell) != 0) {
+                    continue;
+                }
+
+                int count = board.candidateCount(cell);
+                if (count == 0) {
+                    return false;
+                }
+                if (count == 1) {
+                    assign(cell, lowestFreeNumber(cell));
+                    changed = true;
+                }
+            }
+
+            for (int unit = 0; unit < 3 * size; unit++) {
+                int singles = placeHiddenSingles(unit);
+                if (singles < 0) {
+                    return false;
+                }
+                changed |= singles > 0;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Places the numbers that fit in a single empty cell of a unit.
+     * @param unit The unit index, rows first, then columns, then boxes.
+     * @return The number of cells placed, or -1 if some number has no place in the unit.
+     */
+    private int placeHiddenSingles(int unit) {
+        int count = 0;
+
+        for (int w = 0; w < words; w++) {
+            long once = 0;
+            long twice = 0;
+            long taken = 0;
+
+            for (int i = 0; i < size; i++) {
+                int cell = geometry.unitCell(unit, i);
+                int n = board.get(cell);
+                if (n == 0) {
+                    long free = board.candidates(cell, w);
+                    twice |= once & free;
+                    once |= free;
+                } else if ((n - 1) >>> 6 == w) {
+                    taken |= 1L << (n - 1);
+                }
+            }
+
+            if ((once | taken) != (w == words - 1 ? lastWordMask : -1L)) {
+                return -1;
+            }
+
+            long singles = once & ~twice;
+            while (singles != 0) {
+                long bit = singles & -singles;
+                singles ^= bit;
+
+                int target = -1;
+                for (int i = 0; i < size && target < 0; i++) {
+                    int cell = geometry.unitCell(unit, i);
+                    if (board.get(cell) == 0 && (board.candidates(cell, w) & bit) != 0) {
+                        target = cell;
+                    }
+                }
+                if (target < 0) {
+                    return -1;
+                }
+
+                assign(target, (w << 6) + Long.numberOfTrailingZeros(bit) + 1);
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * @param cell An empty cell with at least one candidate.
+     * @return Its smallest candidate.
+     */
+    private int lowestFreeNumber(int cell) {
+        for (int w = 0; ; w++) {
+            long free = board.candidates(cell, w);
+            if (free != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(free) + 1;
+            }
+        }
+    }
+
+    /**
+     * Places a number and records the cell on the placed stack.
+     * @param cell The cell index.
+     * @param n The number.
+     */
+    private void assign(int cell, int n) {
+        board.place(cell, n);
+        placed[placedCount++] = cell;
+    }
+
+    /**
+     * Empties the cells placed since the placed stack had a given size.
+     * @param mark Size of the stack to return to.
+     */
+    private void undo(int mark) {
+        while (placedCount > mark) {
+            board.unplace(placed[--placedCount]);
+        }
+    }
+
+    /**
+     * Writes the candidates of a cell into the trail of the current depth in a uniformly random order.
+     * @param cell The cell branched on.
+     */
+    private void shuffleCandidates(int cell) {
+        int base = depth * size;
+        int count = 0;
+
+        for (int w = 0; w < words; w++) {
+            long free = board.candidates(cell, w);
+            while (free != 0) {
+                int n = (w << 6) + Long.numberOfTrailingZeros(free) + 1;
+                free &= free - 1;
+
+                int j = rand.nextInt(count + 1);
+                trailOrder[base + count] = trailOrder[base + j];
+                trailOrder[base + j] = n;
+                count++;
+            }
+        }
+
+        trailNext[depth] = 0;
+        trailCounts[depth] = count;
+    }
+
+    /**
+     * Removes from the trail the next candidate of the current depth, in ascending or shuffled order.
+     * @return The number, or 0 if every candidate has been tried.
+     */
+    private int takeCandidate() {
+        if (rand != null) {
+            return trailNext[depth] < trailCounts[depth] ? trailOrder[depth * size + trailNext[depth]++] : 0;
+        }
+
+        int base = depth * words;
+        for (int w = 0; w < words; w++) {
+            long bits = trailCandidates[base + w];
+            if (bits != 0) {
+                trailCandidates[base + w] = bits & (bits - 1);
+                return (w << 6) + Long.numberOfTrailingZeros(bits) + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Empties every cell placed by the search.
+     */
+    private void unwind() {
+        undo(0);
+        depth = -1;
+    }
+
+    /**
+     * Finds the empty cell with the fewest candidates.
+     * @return The cell index, or {@link #FULL} if the board is full.
+     */
+    private int mostConstrainedCell() {
+        int best = FULL;
+        int bestCount = Integer.MAX_VALUE;
+
+        for (int cell = 0; cell < geometry.getCellCount(); cell++) {
+            if (board.get(cell) != 0) {
+                continue;
+            }
+
+            int count = board.candidateCount(cell);
+            if (count < bestCount) {
+                best = cell;
+                bestCount = count;
+                if (count <= 1) break;
+            }
+        }
+
+        return best;
+    }
+}
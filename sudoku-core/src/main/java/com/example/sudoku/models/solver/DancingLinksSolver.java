@@ -0,0 +1,336 @@
+package com.example.sudoku.models.solver;
+
+import com.example.sudoku.models.Board;
+import com.example.sudoku.models.Geometry;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * This class solves boards with Knuth's Algorithm X over dancing links.
+ * The exact-cover matrix has one row per (cell, number) option and one column per constraint: every cell
+ * holds a number, and every row, column and box holds every number once. All links live in preallocated
+ * int arrays that are built once per solver; each search covers and uncovers them symmetrically, so the
+ * matrix is back to its initial state after every call and repeated solves allocate nothing.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class DancingLinksSolver implements Solver {
+    private static final int ROOT = 0;
+
+    private final Geometry geometry;
+    private final int size;
+    private final int cellCount;
+
+    private final int[] left;
+    private final int[] right;
+    private final int[] up;
+    private final int[] down;
+    private final int[] column;
+    private final int[] option;
+    private final int[] columnSize;
+
+    /**
+     * First node of each option, options being numbered cell * size + (number - 1).
+     */
+    private final int[] firstNode;
+
+    /**
+     * Option nodes chosen by the search, one per depth, and options forced by the givens.
+     */
+    private final int[] chosen;
+    private final int[] givens;
+
+    private RandomGenerator rand;
+    private long nodes;
+    private long nodeLimit;
+    private boolean aborted;
+    private int limit;
+    private int count;
+    private int solutionDepth;
+    private final int[] solution;
+
+    /**
+     * Constructor for the DancingLinksSolver class, builds the exact-cover matrix of the geometry.
+     * @param geometry Shape of the boards it will solve.
+     */
+    public DancingLinksSolver(Geometry geometry) {
+        this.geometry = geometry;
+        this.size = geometry.getSize();
+        this.cellCount = geometry.getCellCount();
+
+        int columns = 4 * cellCount;
+        int options = cellCount * size;
+        int nodeCount = 1 + columns + 4 * options;
+
+        left = new int[nodeCount];
+        right = new int[nodeCount];
+        up = new int[nodeCount];
+        down = new int[nodeCount];
+        column = new int[nodeCount];
+        option = new int[nodeCount];
+        columnSize = new int[columns + 1];
+        firstNode = new int[options];
+        chosen = new int[cellCount];
+        givens = new int[cellCount];
+        solution = new int[cellCount];
+
+        for (int c = 0; c <= columns; c++) {
+            left[c] = c == 0 ? columns : c - 1;
+            right[c] = c == columns ? 0 : c + 1;
+            up[c] = c;
+            down[c] = c;
+            column[c] = c;
+        }
+
+        int node = columns + 1;
+        for (int cell = 0; cell < cellCount; cell++) {
+            int row = geometry.rowOf(cell);
+            int col = geometry.colOf(cell);
+            int box = geometry.boxOf(cell);
+
+            for (int d = 0; d < size; d++) {
+                int o = cell * size + d;
+                firstNode[o] = node;
+
+                int[] constraints = {
+                        1 + cell,
+                        1 + cellCount + row * size + d,
+                        1 + 2 * cellCount + col * size + d,
+                        1 + 3 * cellCount + box * size + d
+                };
+
+                for (int k = 0; k < 4; k++) {
+                    int c = constraints[k];
+                    column[node] = c;
+                    option[node] = o;
+
+                    up[node] = up[c];
+                    down[node] = c;
+                    down[up[c]] = node;
+                    up[c] = node;
+                    columnSize[c]++;
+
+                    left[node] = k == 0 ? node + 3 : node - 1;
+                    right[node] = k == 3 ? node - 3 : node + 1;
+                    node++;
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean solve(Board board) {
+        if (run(board, 1, null, Long.MAX_VALUE) == 0) {
+            return false;
+        }
+
+        writeSolution(board);
+        return true;
+    }
+
+    @Override
+    public int countSolutions(Board board, int limit) {
+        return run(board, limit, null, Long.MAX_VALUE);
+    }
+
+    @Override
+    public boolean fill(Board board, RandomGenerator rand, long nodeLimit) {
+        if (run(board, 1, rand, nodeLimit) == 0 || aborted) {
+            return false;
+        }
+
+        writeSolution(board);
+        return true;
+    }
+
+    @Override
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Covers the givens of the board, searches and restores the matrix.
+     * @param board The board to search.
+     * @param limit Number of solutions after which the search stops.
+     * @param rand Source of the random choices, null to try the options in order.
+     * @param nodeLimit Number of search nodes after which the search is abandoned.
+     * @return The number of solutions found.
+     */
+    private int run(Board board, int limit, RandomGenerator rand, long nodeLimit) {
+        if (!board.getGeometry().equals(geometry)) {
+            throw new IllegalArgumentException("Board geometry " + board.getGeometry() + " does not match " + geometry);
+        }
+
+        this.rand = rand;
+        this.limit = limit;
+        this.nodeLimit = nodeLimit;
+        this.nodes = 0;
+        this.count = 0;
+        this.aborted = false;
+
+        int given = 0;
+        boolean consistent = true;
+
+        for (int cell = 0; cell < cellCount && consistent; cell++) {
+            int n = board.get(cell);
+            if (n == 0) {
+                continue;
+            }
+
+            int first = firstNode[cell * size + n - 1];
+            for (int j = first, k = 0; k < 4; j = right[j], k++) {
+                if (right[left[column[j]]] != column[j]) {
+                    consistent = false;
+                }
+            }
+
+            if (consistent) {
+                select(first);
+                givens[given++] = first;
+            }
+        }
+
+        if (consistent) {
+            search(0);
+        }
+
+        while (given > 0) {
+            deselect(givens[--given]);
+        }
+
+        return count;
+    }
+
+    /**
+     * Algorithm X: chooses the constraint with the fewest options and tries each of them.
+     * @param depth Number of options chosen so far.
+     * @return true once the search must stop.
+     */
+    private boolean search(int depth) {
+        if (right[ROOT] == ROOT) {
+            if (count++ == 0) {
+                System.arraycopy(chosen, 0, solution, 0, depth);
+                solutionDepth = depth;
+            }
+            return count >= limit;
+        }
+
+        if (++nodes > nodeLimit) {
+            aborted = true;
+            return true;
+        }
+
+        int best = right[ROOT];
+        for (int c = right[best]; c != ROOT; c = right[c]) {
+            if (columnSize[c] < columnSize[best]) {
+                best = c;
+                if (columnSize[c] <= 1) break;
+            }
+        }
+
+        int options = columnSize[best];
+        if (options == 0) {
+            return false;
+        }
+
+        cover(best);
+
+        int r = down[best];
+        if (rand != null) {
+            for (int skip = rand.nextInt(options); skip > 0; skip--) {
+                r = down[r];
+            }
+        }
+
+        boolean stop = false;
+        for (int k = 0; k < options && !stop; k++) {
+            chosen[depth] = r;
+            for (int j = right[r]; j != r; j = right[j]) {
+                cover(column[j]);
+            }
+
+            stop = search(depth + 1);
+
+            for (int j = left[r]; j != r; j = left[j]) {
+                uncover(column[j]);
+            }
+
+            r = down[r];
+            if (r == best) {
+                r = down[best];
+            }
+        }
+
+        uncover(best);
+        return stop;
+    }
+
+    /**
+     * Removes a constraint and every option that satisfies it.
+     * @param c The column header.
+     */
+    private void cover(int c) {
+        right[left[c]] = right[c];
+        left[right[c]] = left[c];
+
+        for (int i = down[c]; i != c; i = down[i]) {
+            for (int j = right[i]; j != i; j = right[j]) {
+                down[up[j]] = down[j];
+                up[down[j]] = up[j];
+                columnSize[column[j]]--;
+            }
+        }
+    }
+
+    /**
+     * Restores a constraint removed by {@link #cover(int)}.
+     * @param c The column header.
+     */
+    private void uncover(int c) {
+        for (int i = up[c]; i != c; i = up[i]) {
+            for (int j = left[i]; j != i; j = left[j]) {
+                columnSize[column[j]]++;
+                down[up[j]] = j;
+                up[down[j]] = j;
+            }
+        }
+
+        right[left[c]] = c;
+        left[right[c]] = c;
+    }
+
+    /**
+     * Takes an option as part of the solution by covering all of its constraints.
+     * @param first The first node of the option.
+     */
+    private void select(int first) {
+        int j = first;
+        do {
+            cover(column[j]);
+            j = right[j];
+        } while (j != first);
+    }
+
+    /**
+     * Undoes {@link #select(int)}.
+     * @param first The first node of the option.
+     */
+    private void deselect(int first) {
+        int j = left[first];
+        do {
+            uncover(column[j]);
+            j = left[j];
+        } while (j != left[first]);
+    }
+
+    /**
+     * Places the numbers of the first solution found into the empty cells of the board.
+     * @param board The board to complete.
+     */
+    private void writeSolution(Board board) {
+        for (int i = 0; i < solutionDepth; i++) {
+            int o = option[solution[i]];
+            board.place(o / size, o % size + 1);
+        }
+    }
+}
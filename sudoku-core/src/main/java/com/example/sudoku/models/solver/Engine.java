@@ -0,0 +1,47 @@
+package com.example.sudoku.models.solver;
+
+import com.example.sudoku.models.Geometry;
+
+/**
+ * This enum lists the available search engines.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public enum Engine {
+    /**
+     * Depth-first search over the unit bitmasks, branching on the most constrained cell.
+     */
+    BACKTRACKING {
+        @Override
+        public Solver create(Geometry geometry) {
+            return new MeteredSolver(this, new BacktrackingSolver(geometry));
+        }
+    },
+
+    /**
+     * Backtracking that places the naked and hidden singles forced by every placement before branching again.
+     */
+    PROPAGATION {
+        @Override
+        public Solver create(Geometry geometry) {
+            return new MeteredSolver(this, new BacktrackingSolver(geometry, true));
+        }
+    },
+
+    /**
+     * Knuth's Algorithm X over an exact-cover matrix stored as dancing links.
+     */
+    DANCING_LINKS {
+        @Override
+        public Solver create(Geometry geometry) {
+            return new MeteredSolver(this, new DancingLinksSolver(geometry));
+        }
+    };
+
+    /**
+     * Creates a solver of this engine, recording its searches in the metrics registry and Flight Recorder.
+     * @param geometry Shape of the boards it will solve.
+     * @return A new solver.
+     */
+    public abstract Solver create(Geometry geometry);
+}
@@ -0,0 +1,60 @@
+package com.example.sudoku.models.solver;
+
+import java.util.BitSet;
+
+/**
+ * This class is the result of checking a grid in progress with a {@link ProgressChecker}.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class Progress {
+    private final BitSet conflicts;
+    private final int filled;
+    private final boolean completable;
+
+    /**
+     * Constructor for the Progress class.
+     * @param conflicts Cells whose number is repeated in their row, column or box.
+     * @param filled Number of non-empty cells.
+     * @param completable Whether the grid can still be completed into a solution.
+     */
+    public Progress(BitSet conflicts, int filled, boolean completable) {
+        this.conflicts = conflicts;
+        this.filled = filled;
+        this.completable = completable;
+    }
+
+    /**
+     * @param cell The cell index.
+     * @return true if the cell's number is repeated in its row, column or box.
+     */
+    public boolean isConflicting(int cell) {
+        return conflicts.get(cell);
+    }
+
+    /**
+     * @return Number of cells in conflict.
+     */
+    public int getConflictCount() {
+        return conflicts.cardinality();
+    }
+
+    /**
+     * @return Number of non-empty cells.
+     */
+    public int getFilled() {
+        return filled;
+    }
+
+    /**
+     * @return true if the grid repeats no number and can still be completed into a solution.
+     */
+    public boolean isCompletable() {
+        return completable;
+    }
+
+    @Override
+    public String toString() {
+        return filled + " filled, " + getConflictCount() + " conflicts, " + (completable ? "completable" : "stuck");
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.sudoku.models.solver;
+
+import com.example.sudoku.models.Board;
+import com.example.sudoku.models.Geometry;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * This class checks a grid in progress, givens plus the player's entries, without comparing it to a stored
+ * answer. It reports the cells that repeat a number of their row, column or box, and whether the grid can
+ * still be completed, which a search answers as soon as it reaches any solution. Any solution counts, so
+ * puzzles with several solutions are judged correctly.
+ * The board, the counters, the conflict set and the solver are allocated once, so an instance must not be
+ * shared between threads, and a {@link Progress} it returns is only valid until its next check.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class ProgressChecker {
+    private final Geometry geometry;
+    private final int size;
+    private final Board board;
+    private final Solver solver;
+
+    /**
+     * Occurrences of number n in unit u, stored at u * size + n - 1.
+     */
+    private final int[] counts;
+
+    /**
+     * Cells in conflict, shared by every {@link Progress} returned.
+     */
+    private final BitSet conflicts;
+
+    /**
+     * Constructor for the ProgressChecker class, searching with dancing links.
+     * @param geometry Shape of the grids it will check.
+     */
+    public ProgressChecker(Geometry geometry) {
+        this(geometry, Engine.DANCING_LINKS);
+    }
+
+    /**
+     * Constructor for the ProgressChecker class.
+     * @param geometry Shape of the grids it will check.
+     * @param engine Search engine used to decide if a grid is completable.
+     */
+    public ProgressChecker(Geometry geometry, Engine engine) {
+        this.geometry = geometry;
+        this.size = geometry.getSize();
+        this.board = new Board(geometry);
+        this.solver = engine.create(geometry);
+        this.counts = new int[3 * size * size];
+        this.conflicts = new BitSet(geometry.getCellCount());
+    }
+
+    /**
+     * Checks a grid.
+     * @param values The numbers, row by row, 0 meaning empty.
+     * @return The conflicts found and whether the grid is still completable, valid until the next check.
+     * @throws IllegalArgumentException if the grid does not have one number per cell of the geometry, or holds a
+     * number outside 1 to the size of the geometry other than 0.
+     */
+    public Progress check(byte[] values) {
+        if (values.length != geometry.getCellCount()) {
+            throw new IllegalArgumentException("Expected " + geometry.getCellCount() + " cells, got " + values.length);
+        }
+        for (int cell = 0; cell < values.length; cell++) {
+            if (values[cell] < 0 || values[cell] > size) {
+                throw new IllegalArgumentException("Number " + values[cell] + " at cell " + cell + " is out of range");
+            }
+        }
+        conflicts.clear();
+
+        if (board.load(values)) {
+            return new Progress(conflicts, board.getFilled(), solver.countSolutions(board, 1) == 1);
+        }
+
+        Arrays.fill(counts, 0);
+        int filled = 0;
+        for (int cell = 0; cell < values.length; cell++) {
+            int n = values[cell];
+            if (n != 0) {
+                filled++;
+                counts[unitIndex(geometry.rowOf(cell), n)]++;
+                counts[unitIndex(size + geometry.colOf(cell), n)]++;
+                counts[unitIndex(2 * size + geometry.boxOf(cell), n)]++;
+            }
+        }
+
+        for (int cell = 0; cell < values.length; cell++) {
+            int n = values[cell];
+            if (n != 0 && (counts[unitIndex(geometry.rowOf(cell), n)] > 1
+                    || counts[unitIndex(size + geometry.colOf(cell), n)] > 1
+                    || counts[unitIndex(2 * size + geometry.boxOf(cell), n)] > 1)) {
+                conflicts.set(cell);
+            }
+        }
+
+        return new Progress(conflicts, filled, false);
+    }
+
+    /**
+     * @param unit The unit index.
+     * @param n The number.
+     * @return Position of the counter of the number in the unit.
+     */
+    private int unitIndex(int unit, int n) {
+        return unit * size + n - 1;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.sudoku.models.solver;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This class is the Flight Recorder event of one search: a solve, a solution count or a random fill.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+@Name("com.example.sudoku.Solve")
+@Label("Solve")
+@Category("Sudoku")
+@Description("A search run by a solver")
+@StackTrace(false)
+class SolveEvent extends Event {
+    @Label("Engine")
+    String engine;
+
+    @Label("Geometry")
+    String geometry;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Nodes")
+    long nodes;
+
+    @Label("Solutions")
+    @Description("Solutions found, 0 or 1 for a solve or a fill")
+    int solutions;
+}
@@ -0,0 +1,46 @@
+package com.example.sudoku.models.solver;
+
+import com.example.sudoku.models.Board;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * This interface is implemented by the search engines that solve and generate Sudoku boards.
+ * A solver is built for one geometry and keeps its working memory between calls, so an instance
+ * must not be shared between threads. The filled cells of the boards passed in are expected not to repeat
+ * a number in any row, column or box, as guaranteed by {@link Board#isValid(int, int)}.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public interface Solver {
+    /**
+     * Completes the board with the first solution found.
+     * @param board The board to solve, its filled cells are taken as givens.
+     * @return true if a solution was found and written, false if the board has none.
+     */
+    boolean solve(Board board);
+
+    /**
+     * Counts the solutions of a board, stopping as soon as the limit is reached.
+     * The board is left unchanged.
+     * @param board The board to inspect, its filled cells are taken as givens.
+     * @param limit Number of solutions after which the search stops.
+     * @return The number of solutions found, at most {@code limit}.
+     */
+    int countSolutions(Board board, int limit);
+
+    /**
+     * Completes the board with a random solution, trying the candidates in a random order.
+     * @param board The board to fill, its filled cells are kept.
+     * @param rand Source of the random choices.
+     * @param nodeLimit Number of search nodes after which the attempt is abandoned.
+     * @return true if the board was completed, false if it has no solution or the limit was reached,
+     * in which case the board is left as it was.
+     */
+    boolean fill(Board board, RandomGenerator rand, long nodeLimit);
+
+    /**
+     * @return Number of search nodes visited by the last call, one per cell or constraint branched on.
+     */
+    long getNodes();
+}
@@ -0,0 +1,132 @@
+package com.example.sudoku.models.solver;
+
+import com.example.sudoku.models.Board;
+import com.example.sudoku.models.Geometry;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class bundles a board and a solver of one geometry and engine so that a worker can run many searches
+ * without allocating. A thread leases a context with {@link #lease(Geometry, Engine)}, loads each puzzle with
+ * {@link #load(byte[])} or {@link #reset()}, and gives it back with {@link #close()}, usually through
+ * try-with-resources. Idle contexts wait in a shared pool of at most {@link #POOL_CAPACITY} per geometry and
+ * engine; once the pool is warm, leasing, loading, solving and releasing allocate nothing.
+ * A leased context belongs to one thread until it is closed.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public final class SolverContext implements AutoCloseable {
+    /**
+     * Largest number of idle contexts kept per geometry and engine, extra ones are left to the collector.
+     */
+    public static final int POOL_CAPACITY = 64;
+
+    private static final Map<Engine, Map<Geometry, BlockingQueue<SolverContext>>> POOLS = new EnumMap<>(Engine.class);
+
+    static {
+        for (Engine engine : Engine.values()) {
+            POOLS.put(engine, new ConcurrentHashMap<>());
+        }
+    }
+
+    private final Geometry geometry;
+    private final Engine engine;
+    private final Board board;
+    private final Solver solver;
+    private boolean leased;
+
+    /**
+     * Constructor for the SolverContext class.
+     * @param geometry Shape of the boards.
+     * @param engine Search engine of the solver.
+     */
+    private SolverContext(Geometry geometry, Engine engine) {
+        this.geometry = geometry;
+        this.engine = engine;
+        this.board = new Board(geometry);
+        this.solver = engine.create(geometry);
+    }
+
+    /**
+     * Takes an idle context from the pool, creating one if none is idle.
+     * @param geometry Shape of the boards.
+     * @param engine Search engine of the solver.
+     * @return An empty context, to be given back with {@link #close()}.
+     */
+    public static SolverContext lease(Geometry geometry, Engine engine) {
+        SolverContext context = POOLS.get(engine)
+                .computeIfAbsent(geometry, g -> new ArrayBlockingQueue<>(POOL_CAPACITY))
+                .poll();
+        if (context == null) {
+            context = new SolverContext(geometry, engine);
+        }
+
+        context.leased = true;
+        context.reset();
+        return context;
+    }
+
+    /**
+     * @return Shape of the boards.
+     */
+    public Geometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * @return Search engine of the solver.
+     */
+    public Engine getEngine() {
+        return engine;
+    }
+
+    /**
+     * @return The board searched by the solver.
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * @return The solver, bound to this context's geometry.
+     */
+    public Solver getSolver() {
+        return solver;
+    }
+
+    /**
+     * Empties the board for the next puzzle.
+     * @return The board.
+     */
+    public Board reset() {
+        board.clear();
+        return board;
+    }
+
+    /**
+     * Replaces the board with a puzzle.
+     * @param values The numbers, row by row, 0 meaning empty.
+     * @return true if the numbers do not repeat in any row, column or box, false otherwise.
+     */
+    public boolean load(byte[] values) {
+        return board.load(values);
+    }
+
+    /**
+     * Gives the context back to the pool. It must not be used afterwards.
+     * @throws IllegalStateException if the context was already given back.
+     */
+    @Override
+    public void close() {
+        if (!leased) {
+            throw new IllegalStateException("Solver context already released");
+        }
+
+        leased = false;
+        POOLS.get(engine).get(geometry).offer(this);
+    }
+}
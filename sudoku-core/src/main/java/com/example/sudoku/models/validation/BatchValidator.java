@@ -0,0 +1,205 @@
+package com.example.sudoku.models.validation;
+
+import com.example.sudoku.models.Geometry;
+
+import java.util.Arrays;
+
+/**
+ * This class checks complete boards in bulk: a board is correct when every row, column and box holds each
+ * number from 1 to the size exactly once. Boards are given either one after the other, board k starting at
+ * k * cells, or packed by {@link #pack(byte[], int, byte[])} into blocks of {@link #getBlockSize()} boards
+ * laid out cell by cell, so that the values of one cell in all the boards of a block are contiguous.
+ * {@link #create(Geometry)} returns a validator that checks a whole block at once on the lanes of the
+ * {@code jdk.incubator.vector} API when that module is present (started with
+ * {@code --add-modules jdk.incubator.vector}) and the geometry has at most 16 numbers, and a scalar one with
+ * the same results otherwise. Instances keep scratch memory and must not be shared between threads.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public abstract class BatchValidator {
+    /**
+     * System property that disables the vector validator when {@code false}.
+     */
+    public static final String VECTOR_PROPERTY = "sudoku.vector";
+
+    /**
+     * Boards per block of the scalar validator, the lane count of the vector one on 512-bit hardware.
+     */
+    static final int SCALAR_BLOCK_SIZE = 32;
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_CLASS = "com.example.sudoku.models.validation.VectorBatchValidator";
+
+    protected final Geometry geometry;
+    protected final int size;
+    protected final int cells;
+    private final int blockSize;
+
+    /**
+     * Unit masks of the board being checked, rows, then columns, then boxes, each taking {@code words} longs.
+     */
+    private final long[] used;
+    private final int words;
+
+    /**
+     * Constructor for the BatchValidator class.
+     * @param geometry Shape of the boards.
+     * @param blockSize Boards per packed block.
+     */
+    BatchValidator(Geometry geometry, int blockSize) {
+        this.geometry = geometry;
+        this.size = geometry.getSize();
+        this.cells = geometry.getCellCount();
+        this.blockSize = blockSize;
+        this.words = geometry.getWords();
+        this.used = new long[3 * size * words];
+    }
+
+    /**
+     * Creates the fastest validator available for a geometry.
+     * @param geometry Shape of the boards.
+     * @return A vector validator if the Vector API is available and the geometry has at most 16 numbers,
+     * otherwise a scalar one.
+     */
+    public static BatchValidator create(Geometry geometry) {
+        if (isVectorAvailable() && geometry.getSize() <= Short.SIZE) {
+            try {
+                return (BatchValidator) Class.forName(VECTOR_CLASS).getDeclaredConstructor(Geometry.class)
+                        .newInstance(geometry);
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Fall back to the scalar validator.
+            }
+        }
+        return scalar(geometry);
+    }
+
+    /**
+     * Creates a validator that does not use the Vector API.
+     * @param geometry Shape of the boards.
+     * @return The validator.
+     */
+    public static BatchValidator scalar(Geometry geometry) {
+        return new ScalarBatchValidator(geometry);
+    }
+
+    /**
+     * @return true if the {@code jdk.incubator.vector} module is loaded and not disabled by
+     * {@value #VECTOR_PROPERTY}.
+     */
+    public static boolean isVectorAvailable() {
+        return !"false".equals(System.getProperty(VECTOR_PROPERTY))
+                && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+    }
+
+    /**
+     * @return Shape of the boards.
+     */
+    public Geometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * @return Number of boards of a packed block.
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * @param count Number of boards.
+     * @return Length of the array that {@link #pack(byte[], int, byte[])} needs for them, the last block
+     * padded to a full block.
+     */
+    public int packedLength(int count) {
+        return (count + blockSize - 1) / blockSize * blockSize * cells;
+    }
+
+    /**
+     * Lays out boards stored one after the other into blocks.
+     * @param boards The boards, board k starting at k * cells.
+     * @param count Number of boards.
+     * @param blocks Receives the blocks, at least {@link #packedLength(int)} long. Cell c of board k goes to
+     *               (k / blockSize) * blockSize * cells + c * blockSize + k % blockSize.
+     */
+    public void pack(byte[] boards, int count, byte[] blocks) {
+        checkLength(blocks, packedLength(count));
+
+        for (int k = 0; k < count; k++) {
+            int base = k / blockSize * blockSize * cells + k % blockSize;
+            for (int c = 0; c < cells; c++) {
+                blocks[base + c * blockSize] = boards[k * cells + c];
+            }
+        }
+    }
+
+    /**
+     * Checks one board.
+     * @param boards Array holding the board.
+     * @param offset Position of the first cell of the board.
+     * @return true if every unit holds each number exactly once.
+     */
+    public boolean isValid(byte[] boards, int offset) {
+        Arrays.fill(used, 0L);
+
+        for (int cell = 0; cell < cells; cell++) {
+            int n = boards[offset + cell];
+            if (n < 1 || n > size) {
+                return false;
+            }
+
+            int word = (n - 1) >>> 6;
+            long bit = 1L << (n - 1);
+            int row = geometry.rowOf(cell) * words + word;
+            int col = (size + geometry.colOf(cell)) * words + word;
+            int box = (2 * size + geometry.boxOf(cell)) * words + word;
+            if (((used[row] | used[col] | used[box]) & bit) != 0) {
+                return false;
+            }
+            used[row] |= bit;
+            used[col] |= bit;
+            used[box] |= bit;
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks boards stored one after the other.
+     * @param boards The boards, board k starting at k * cells.
+     * @param count Number of boards.
+     * @param results Receives whether each board is correct.
+     * @return Number of correct boards.
+     */
+    public int validate(byte[] boards, int count, boolean[] results) {
+        checkLength(boards, count * cells);
+
+        int valid = 0;
+        for (int k = 0; k < count; k++) {
+            results[k] = isValid(boards, k * cells);
+            if (results[k]) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Checks boards packed into blocks by {@link #pack(byte[], int, byte[])}.
+     * @param blocks The blocks, at least {@link #packedLength(int)} long.
+     * @param count Number of boards.
+     * @param results Receives whether each board is correct.
+     * @return Number of correct boards.
+     */
+    public abstract int validateBlocks(byte[] blocks, int count, boolean[] results);
+
+    /**
+     * @param array An input or output array.
+     * @param length Length it needs.
+     * @throws IllegalArgumentException if it is shorter.
+     */
+    static void checkLength(byte[] array, int length) {
+        if (array.length < length) {
+            throw new IllegalArgumentException("Array of " + array.length + " bytes, " + length + " needed");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.sudoku.models.validation;
+
+import com.example.sudoku.models.Geometry;
+
+/**
+ * This class checks packed blocks one board at a time, used when the Vector API is not available.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+final class ScalarBatchValidator extends BatchValidator {
+    private final byte[] board;
+
+    /**
+     * Constructor for the ScalarBatchValidator class.
+     * @param geometry Shape of the boards.
+     */
+    ScalarBatchValidator(Geometry geometry) {
+        super(geometry, SCALAR_BLOCK_SIZE);
+        this.board = new byte[geometry.getCellCount()];
+    }
+
+    @Override
+    public int validateBlocks(byte[] blocks, int count, boolean[] results) {
+        checkLength(blocks, packedLength(count));
+
+        int lanes = getBlockSize();
+        int valid = 0;
+        for (int k = 0; k < count; k++) {
+            int base = k / lanes * lanes * cells + k % lanes;
+            for (int c = 0; c < cells; c++) {
+                board[c] = blocks[base + c * lanes];
+            }
+
+            results[k] = isValid(board, 0);
+            if (results[k]) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.sudoku.models.validation;
+
+import com.example.sudoku.models.Geometry;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * This class checks a whole block of boards at once, one board per lane of the preferred short vector.
+ * For every unit, each lane ORs {@code 1 << (n - 1)} over the unit's cells and the unit is correct when the
+ * result has exactly the bits of 1 to the size; rows also check that every number is in range, which makes
+ * the bit test exact since a unit has as many cells as numbers. It is only loaded by
+ * {@link BatchValidator#create(Geometry)} when the {@code jdk.incubator.vector} module is present.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+final class VectorBatchValidator extends BatchValidator {
+    private static final VectorSpecies<Short> SHORTS = ShortVector.SPECIES_PREFERRED;
+
+    /**
+     * Byte species with as many lanes as {@link #SHORTS}, so a load widens into exactly one short vector.
+     */
+    private static final VectorSpecies<Byte> BYTES = VectorSpecies.of(byte.class,
+            VectorShape.forBitSize(SHORTS.vectorBitSize() / 2));
+
+    /**
+     * Cells of every unit, {@code size} per unit, rows first, then columns, then boxes.
+     */
+    private final int[] unitCells;
+    private final short full;
+
+    /**
+     * Constructor for the VectorBatchValidator class.
+     * @param geometry Shape of the boards, of at most 16 numbers.
+     * @throws IllegalArgumentException if the geometry has more than 16 numbers.
+     */
+    VectorBatchValidator(Geometry geometry) {
+        super(geometry, SHORTS.length());
+        if (size > Short.SIZE) {
+            throw new IllegalArgumentException("Vector validation supports up to 16 numbers, got " + geometry);
+        }
+
+        this.unitCells = new int[3 * size * size];
+        for (int unit = 0; unit < 3 * size; unit++) {
+            for (int i = 0; i < size; i++) {
+                unitCells[unit * size + i] = geometry.unitCell(unit, i);
+            }
+        }
+        this.full = (short) ((1 << size) - 1);
+    }
+
+    @Override
+    public int validateBlocks(byte[] blocks, int count, boolean[] results) {
+        checkLength(blocks, packedLength(count));
+
+        int lanes = getBlockSize();
+        ShortVector one = ShortVector.broadcast(SHORTS, (short) 1);
+        ShortVector zero = ShortVector.zero(SHORTS);
+        int valid = 0;
+
+        for (int first = 0; first < count; first += lanes) {
+            int base = first * cells;
+            VectorMask<Short> ok = SHORTS.maskAll(true);
+
+            for (int unit = 0; unit < 3 * size; unit++) {
+                ShortVector seen = zero;
+                for (int i = 0; i < size; i++) {
+                    ShortVector n = load(blocks, base + unitCells[unit * size + i] * lanes);
+                    if (unit < size) {
+                        ok = ok.and(n.compare(VectorOperators.GE, (short) 1))
+                                .and(n.compare(VectorOperators.LE, (short) size));
+                    }
+                    seen = seen.or(one.lanewise(VectorOperators.LSHL, n.sub((short) 1)));
+                }
+                ok = ok.and(seen.compare(VectorOperators.EQ, full));
+            }
+
+            long bits = ok.toLong();
+            int end = Math.min(lanes, count - first);
+            for (int lane = 0; lane < end; lane++) {
+                boolean correct = (bits >>> lane & 1) != 0;
+                results[first + lane] = correct;
+                if (correct) {
+                    valid++;
+                }
+            }
+        }
+
+        return valid;
+    }
+
+    /**
+     * @param blocks The packed blocks.
+     * @param offset Position of a cell of a block.
+     * @return The values of that cell in every board of the block, widened to shorts.
+     */
+    private static ShortVector load(byte[] blocks, int offset) {
+        return (ShortVector) ByteVector.fromArray(BYTES, blocks, offset)
+                .convertShape(VectorOperators.B2S, SHORTS, 0);
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * Module declaration for the headless Sudoku engine: models, solvers, generators, pool files and metrics.
+ */
+module com.example.sudoku.core {
+    requires jdk.jfr;
+    requires static jdk.incubator.vector;
+
+    exports com.example.sudoku.models;
+    exports com.example.sudoku.models.solver;
+    exports com.example.sudoku.models.io;
+    exports com.example.sudoku.models.grading;
+    exports com.example.sudoku.models.validation;
+    exports com.example.sudoku.metrics;
+}
@@ -0,0 +1,68 @@
+package com.example.sudoku.models;
+
+import com.example.sudoku.models.solver.Engine;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class tests that a {@link BulkGenerator} hands every index of a batch to its sink once, depending only
+ * on the batch seed, and skips and counts the seeds it cannot complete instead of aborting.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+class BulkGeneratorTest {
+    private static final int COUNT = 600;
+
+    @Test
+    void fillsEveryIndexOnce() {
+        Map<Long, Sudoku> puzzles = generate(new BulkGenerator(Geometry.FOUR, Difficulty.MEDIUM, Engine.DANCING_LINKS, 4));
+
+        assertEquals(COUNT, puzzles.size());
+        for (Sudoku sudoku : puzzles.values()) {
+            Sudoku rebuilt = Sudoku.fromId(sudoku.getId());
+            for (int cell = 0; cell < Geometry.FOUR.getCellCount(); cell++) {
+                int row = Geometry.FOUR.rowOf(cell);
+                int col = Geometry.FOUR.colOf(cell);
+                assertEquals(sudoku.getNumber(row, col), rebuilt.getNumber(row, col), sudoku.getId());
+                assertEquals(sudoku.isGiven(row, col), rebuilt.isGiven(row, col), sudoku.getId());
+            }
+        }
+    }
+
+    @Test
+    void dependsOnlyOnTheBatchSeed() {
+        Map<Long, Sudoku> first = generate(new BulkGenerator(Geometry.FOUR, Difficulty.HARD, Engine.DANCING_LINKS, 1));
+        Map<Long, Sudoku> second = generate(new BulkGenerator(Geometry.FOUR, Difficulty.HARD, Engine.BACKTRACKING, 3));
+
+        for (long index = 0; index < COUNT; index++) {
+            assertEquals(first.get(index).getId(), second.get(index).getId(), "index " + index);
+        }
+    }
+
+    @Test
+    void skipsTheSeedsItCannotComplete() {
+        GenerationLimits limits = new GenerationLimits(1, 40, null);
+        BulkGenerator generator = new BulkGenerator(Geometry.NINE, Difficulty.EASY, Engine.DANCING_LINKS, 4, limits);
+        Map<Long, Sudoku> puzzles = new ConcurrentHashMap<>();
+
+        long failures = generator.generate(COUNT, 3, (index, sudoku) -> assertNull(puzzles.put(index, sudoku)));
+        assertTrue(failures > 0);
+        assertEquals(COUNT, failures + puzzles.size());
+    }
+
+    /**
+     * @return The puzzles of a batch by index, checking that no index arrives twice and no seed is skipped.
+     */
+    private static Map<Long, Sudoku> generate(BulkGenerator generator) {
+        Map<Long, Sudoku> puzzles = new ConcurrentHashMap<>();
+        long failures = generator.generate(COUNT, 17, (index, sudoku) -> assertNull(puzzles.put(index, sudoku)));
+        assertEquals(0, failures);
+        return puzzles;
+    }
+}
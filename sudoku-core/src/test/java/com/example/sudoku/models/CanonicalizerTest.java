@@ -0,0 +1,169 @@
+package com.example.sudoku.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * This class tests that a {@link Canonicalizer} gives the same form to a grid and to the grids obtained from
+ * it by relabeling the numbers, reordering bands, stacks and the lines inside them, and transposing.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+class CanonicalizerTest {
+    @Test
+    void equivalentPuzzlesShareTheirForm() {
+        for (Geometry geometry : new Geometry[] {Geometry.FOUR, Geometry.SIX, Geometry.NINE}) {
+            Canonicalizer canonicalizer = new Canonicalizer(geometry);
+            SplittableRandom rand = new SplittableRandom(geometry.getSize());
+
+            for (long seed = 0; seed < 3; seed++) {
+                byte[] grid = givens(new Sudoku(seed, geometry, Difficulty.MEDIUM));
+                byte[] expected = new byte[grid.length];
+                canonicalizer.canonicalize(grid, expected);
+                long hash = canonicalizer.canonicalHash(grid);
+
+                byte[] variant = grid.clone();
+                for (int move = 0; move < 6; move++) {
+                    variant = move(geometry, variant, move, true, rand);
+                    byte[] actual = new byte[grid.length];
+                    canonicalizer.canonicalize(variant, actual);
+                    assertArrayEquals(expected, actual, geometry + " seed " + seed + " after move " + move);
+                    assertEquals(hash, canonicalizer.canonicalHash(variant));
+                }
+            }
+        }
+    }
+
+    @Test
+    void largeGridsShareTheirFormUnderBandsStacksAndLabels() {
+        Geometry geometry = Geometry.TWELVE;
+        Canonicalizer canonicalizer = new Canonicalizer(geometry);
+        SplittableRandom rand = new SplittableRandom(12);
+
+        byte[] grid = givens(new Sudoku(geometry));
+        long hash = canonicalizer.canonicalHash(grid);
+        byte[] variant = grid.clone();
+        for (int move : new int[] {0, 1, 3, 0, 1, 3}) {
+            variant = move(geometry, variant, move, false, rand);
+            assertEquals(hash, canonicalizer.canonicalHash(variant), "after move " + move);
+        }
+    }
+
+    @Test
+    void theFormIsAFixedPoint() {
+        Canonicalizer canonicalizer = new Canonicalizer(Geometry.NINE);
+        byte[] grid = givens(new Sudoku(4, Geometry.NINE, Difficulty.HARD));
+        byte[] form = new byte[grid.length];
+        canonicalizer.canonicalize(grid, form);
+
+        byte[] again = new byte[grid.length];
+        canonicalizer.canonicalize(form, again);
+        assertArrayEquals(form, again);
+    }
+
+    @Test
+    void differentPuzzlesHaveDifferentForms() {
+        Canonicalizer canonicalizer = new Canonicalizer(Geometry.NINE);
+        long first = canonicalizer.canonicalHash(new Sudoku(1, Geometry.NINE, Difficulty.MEDIUM));
+        long second = canonicalizer.canonicalHash(new Sudoku(2, Geometry.NINE, Difficulty.MEDIUM));
+        assertNotEquals(first, second);
+    }
+
+    /**
+     * Applies one move that keeps a Sudoku valid.
+     * @param geometry Shape of the grid.
+     * @param grid The grid, row by row.
+     * @param move 0 relabels, 1 swaps two bands, 2 swaps two rows of a band, 3 swaps two stacks, 4 swaps two
+     *             columns of a stack, 5 transposes when the boxes are square.
+     * @param lines Whether moves 2 and 4 are applied, false turning them into relabelings.
+     * @param rand Source of the choices.
+     * @return The new grid.
+     */
+    private static byte[] move(Geometry geometry, byte[] grid, int move, boolean lines, SplittableRandom rand) {
+        int size = geometry.getSize();
+        int boxRows = geometry.getBoxRows();
+        int boxCols = geometry.getBoxCols();
+        int[] rows = identity(size);
+        int[] cols = identity(size);
+        int[] labels = identity(size + 1);
+
+        switch (move) {
+            case 1 -> swapBlocks(rows, boxRows, size / boxRows, rand);
+            case 2 -> {
+                if (lines) {
+                    swapInBlock(rows, boxRows, size / boxRows, rand);
+                }
+            }
+            case 3 -> swapBlocks(cols, boxCols, size / boxCols, rand);
+            case 4 -> {
+                if (lines) {
+                    swapInBlock(cols, boxCols, size / boxCols, rand);
+                }
+            }
+            default -> { }
+        }
+        if (move == 0 || (!lines && (move == 2 || move == 4))) {
+            for (int i = size; i > 1; i--) {
+                int j = 1 + rand.nextInt(i);
+                int swap = labels[i];
+                labels[i] = labels[j];
+                labels[j] = swap;
+            }
+        }
+
+        boolean transpose = move == 5 && boxRows == boxCols;
+        byte[] result = new byte[grid.length];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int from = transpose ? cols[col] * size + rows[row] : rows[row] * size + cols[col];
+                result[row * size + col] = (byte) labels[grid[from]];
+            }
+        }
+        return result;
+    }
+
+    private static void swapBlocks(int[] lines, int width, int blocks, SplittableRandom rand) {
+        int a = rand.nextInt(blocks);
+        int b = (a + 1 + rand.nextInt(blocks - 1)) % blocks;
+        for (int k = 0; k < width; k++) {
+            lines[a * width + k] = b * width + k;
+            lines[b * width + k] = a * width + k;
+        }
+    }
+
+    private static void swapInBlock(int[] lines, int width, int blocks, SplittableRandom rand) {
+        int block = rand.nextInt(blocks);
+        int a = rand.nextInt(width);
+        int b = (a + 1 + rand.nextInt(width - 1)) % width;
+        lines[block * width + a] = block * width + b;
+        lines[block * width + b] = block * width + a;
+    }
+
+    private static int[] identity(int n) {
+        int[] identity = new int[n];
+        for (int i = 0; i < n; i++) {
+            identity[i] = i;
+        }
+        return identity;
+    }
+
+    /**
+     * @param sudoku A puzzle.
+     * @return Its givens, row by row, 0 meaning empty.
+     */
+    private static byte[] givens(Sudoku sudoku) {
+        Geometry geometry = sudoku.getGeometry();
+        byte[] grid = new byte[geometry.getCellCount()];
+        for (int cell = 0; cell < grid.length; cell++) {
+            if (sudoku.isGiven(geometry.rowOf(cell), geometry.colOf(cell))) {
+                grid[cell] = (byte) sudoku.getNumber(geometry.rowOf(cell), geometry.colOf(cell));
+            }
+        }
+        return grid;
+    }
+}
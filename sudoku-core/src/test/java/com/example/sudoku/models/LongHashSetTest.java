@@ -0,0 +1,74 @@
+package com.example.sudoku.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class tests that a {@link LongHashSet} behaves like a set of longs while it grows, and refuses to
+ * grow past its largest table without losing what it holds.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+class LongHashSetTest {
+    @Test
+    void behavesLikeASet() {
+        LongHashSet set = new LongHashSet(4);
+        Set<Long> expected = new HashSet<>();
+        SplittableRandom rand = new SplittableRandom(3);
+
+        for (int i = 0; i < 100_000; i++) {
+            long value = rand.nextInt(50_000) - 25_000;
+            assertEquals(expected.add(value), set.add(value), "add " + value);
+        }
+        assertEquals(expected.size(), set.size());
+        for (long value = -30_000; value < 30_000; value++) {
+            assertEquals(expected.contains(value), set.contains(value), "contains " + value);
+        }
+
+        set.clear();
+        assertEquals(0, set.size());
+        assertFalse(set.contains(0));
+        assertFalse(set.contains(1));
+    }
+
+    @Test
+    void keepsZeroApart() {
+        LongHashSet set = new LongHashSet(16);
+        assertFalse(set.contains(0));
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.contains(0));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void stopsGrowingAtItsLargestTable() {
+        LongHashSet set = new LongHashSet(16, 64);
+        for (long value = 1; value <= 32; value++) {
+            assertTrue(set.add(value));
+        }
+        assertTrue(set.add(0));
+        assertFalse(set.add(7));
+
+        assertThrows(IllegalStateException.class, () -> set.add(33));
+        assertEquals(33, set.size());
+        assertFalse(set.contains(33));
+        for (long value = 0; value <= 32; value++) {
+            assertTrue(set.contains(value));
+        }
+    }
+
+    @Test
+    void refusesMoreExpectedElementsThanItCanHold() {
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(33, 64));
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet((1 << 29) + 1));
+    }
+}
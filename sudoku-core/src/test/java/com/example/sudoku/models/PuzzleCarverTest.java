@@ -0,0 +1,105 @@
+package com.example.sudoku.models;
+
+import com.example.sudoku.models.solver.Engine;
+import com.example.sudoku.models.solver.Solver;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class tests that carved puzzles keep a single solution, that of the grid they were carved from, and
+ * stop at the clue count they aim for when the grid allows it.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+class PuzzleCarverTest {
+    private static final Geometry[] GEOMETRIES = {Geometry.FOUR, Geometry.SIX, Geometry.NINE};
+
+    @Test
+    void carvedPuzzlesHaveOneSolution() {
+        for (Geometry geometry : GEOMETRIES) {
+            Solver solver = Engine.BACKTRACKING.create(geometry);
+            for (Difficulty difficulty : Difficulty.values()) {
+                for (long seed = 0; seed < 5; seed++) {
+                    Sudoku sudoku = new Sudoku(seed, geometry, difficulty);
+                    Board puzzle = givens(sudoku);
+                    String name = geometry + " " + difficulty + " seed " + seed;
+
+                    assertEquals(1, solver.countSolutions(puzzle, 2), name);
+                    assertTrue(solver.solve(puzzle));
+                    for (int cell = 0; cell < geometry.getCellCount(); cell++) {
+                        assertEquals(sudoku.getBoard().get(cell), puzzle.get(cell), name + " cell " + cell);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void carvedPuzzlesReachTheirTarget() {
+        for (Geometry geometry : GEOMETRIES) {
+            int target = Difficulty.EASY.targetClues(geometry);
+            for (long seed = 0; seed < 5; seed++) {
+                Sudoku sudoku = new Sudoku(seed, geometry, Difficulty.EASY);
+                assertEquals(target, sudoku.getGivenCount(), geometry + " seed " + seed);
+            }
+
+            for (Difficulty difficulty : Difficulty.values()) {
+                Sudoku sudoku = new Sudoku(1, geometry, difficulty);
+                assertTrue(sudoku.getGivenCount() >= difficulty.targetClues(geometry));
+            }
+        }
+    }
+
+    @Test
+    void carvedGivensFollowTheSymmetry() {
+        for (Geometry geometry : GEOMETRIES) {
+            for (Difficulty difficulty : Difficulty.values()) {
+                Board puzzle = givens(new Sudoku(2, geometry, difficulty));
+                for (int cell = 0; cell < geometry.getCellCount(); cell++) {
+                    int partner = difficulty.symmetry().partner(geometry, cell);
+                    assertEquals(puzzle.get(cell) != 0, puzzle.get(partner) != 0, geometry + " " + difficulty + " cell " + cell);
+                }
+            }
+        }
+    }
+
+    @Test
+    void carvingToNothingLeavesAMinimalPuzzle() {
+        for (Geometry geometry : GEOMETRIES) {
+            Sudoku sudoku = new Sudoku(geometry);
+            int clues = new PuzzleCarver(geometry, 0, Symmetry.NONE).carve(sudoku, new SplittableRandom(9));
+            assertEquals(clues, sudoku.getGivenCount());
+
+            Solver solver = Engine.DANCING_LINKS.create(geometry);
+            Board puzzle = givens(sudoku);
+            assertEquals(1, solver.countSolutions(puzzle, 2));
+            for (int cell = 0; cell < geometry.getCellCount(); cell++) {
+                int n = puzzle.get(cell);
+                if (n != 0) {
+                    puzzle.unplace(cell);
+                    assertEquals(2, solver.countSolutions(puzzle, 2), geometry + " given " + cell + " is not needed");
+                    puzzle.place(cell, n);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param sudoku A carved Sudoku.
+     * @return A board holding only its givens.
+     */
+    private static Board givens(Sudoku sudoku) {
+        Geometry geometry = sudoku.getGeometry();
+        Board board = new Board(geometry);
+        for (int cell = 0; cell < geometry.getCellCount(); cell++) {
+            if (sudoku.isGiven(geometry.rowOf(cell), geometry.colOf(cell))) {
+                board.place(cell, sudoku.getBoard().get(cell));
+            }
+        }
+        return board;
+    }
+}
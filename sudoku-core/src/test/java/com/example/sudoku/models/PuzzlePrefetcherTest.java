@@ -0,0 +1,79 @@
+package com.example.sudoku.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class tests that {@link PuzzlePrefetcher#takeLater()} never builds a puzzle on the calling thread, and
+ * completes its takes as refills finish.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+class PuzzlePrefetcherTest {
+    private static final Sudoku PUZZLE = new Sudoku(1L, Geometry.FOUR, Difficulty.EASY);
+
+    /**
+     * Permits to build one puzzle each, so the test decides when refills finish.
+     */
+    private final Semaphore builds = new Semaphore(0);
+
+    @Test
+    void takesAReadyPuzzleAtOnce() throws Exception {
+        try (PuzzlePrefetcher prefetcher = new PuzzlePrefetcher(this::build, 1)) {
+            builds.release();
+            assertSame(PUZZLE, prefetcher.poll(10, TimeUnit.SECONDS));
+            builds.release();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (prefetcher.available() == 0 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+
+            CompletableFuture<Sudoku> next = prefetcher.takeLater();
+            assertTrue(next.isDone());
+            assertSame(PUZZLE, next.join());
+        }
+    }
+
+    @Test
+    void completesAWaitingTakeWhenARefillFinishes() {
+        try (PuzzlePrefetcher prefetcher = new PuzzlePrefetcher(this::build, 2)) {
+            CompletableFuture<Sudoku> first = prefetcher.takeLater();
+            CompletableFuture<Sudoku> second = prefetcher.takeLater();
+            assertFalse(first.isDone());
+
+            builds.release();
+            assertSame(PUZZLE, first.orTimeout(10, TimeUnit.SECONDS).join());
+            assertFalse(second.isDone());
+
+            builds.release();
+            assertSame(PUZZLE, second.orTimeout(10, TimeUnit.SECONDS).join());
+        }
+    }
+
+    @Test
+    void cancelsWaitingTakesWhenClosed() {
+        PuzzlePrefetcher prefetcher = new PuzzlePrefetcher(this::build, 1);
+        CompletableFuture<Sudoku> next = prefetcher.takeLater();
+        prefetcher.close();
+
+        assertTrue(next.isCancelled());
+        assertTrue(prefetcher.takeLater().isCancelled());
+    }
+
+    private Sudoku build() {
+        try {
+            builds.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        }
+        return PUZZLE;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.sudoku.models.grading;
+
+import com.example.sudoku.models.Board;
+import com.example.sudoku.models.Difficulty;
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.Sudoku;
+import com.example.sudoku.models.solver.Engine;
+import com.example.sudoku.models.solver.Solver;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class tests the {@link DifficultyGrader} on published puzzles known to need a given technique, and
+ * checks that it never solves a puzzle with more than one solution.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+class DifficultyGraderTest {
+    /**
+     * The example puzzle of Wikipedia's Sudoku article, solved by naked singles alone.
+     */
+    private static final String SINGLES = "53..7....6..195....98....6.8...6...34..8.3..17...2...6.6....28....419..5....8..79";
+
+    /**
+     * A 17-clue puzzle that hidden singles finish.
+     */
+    private static final String SEVENTEEN = "000000010400000000020000000000050407008000300001090000300400200050100000000806000";
+
+    /**
+     * The pointing pairs example of SudokuWiki.
+     */
+    private static final String POINTING = "4.....938.32.941...953..24.37.6.9..4529..16736.47.3.9.957..83....39..4..24..3.7.9";
+
+    /**
+     * The X-Wing example of SudokuWiki.
+     */
+    private static final String X_WING = "1.....569492.561.8.561.924...964.8.1.64.1....218.356.4.4.5...169.5.614.2621.....5";
+
+    /**
+     * Arto Inkala's puzzle, which needs more than the techniques of the grader.
+     */
+    private static final String INKALA = "8..........36......7..9.2...5...7.......457.....1...3...1....68..85...1..9....4..";
+
+    private final DifficultyGrader grader = new DifficultyGrader(Geometry.NINE);
+
+    @Test
+    void gradesPublishedPuzzles() {
+        Grade singles = grader.grade(board(SINGLES));
+        assertTrue(singles.isSolved());
+        assertEquals(Technique.NAKED_SINGLE, singles.getHardest());
+        assertEquals(51, singles.getSteps());
+        assertEquals(51, singles.getScore());
+
+        assertGrade(SEVENTEEN, Technique.HIDDEN_SINGLE);
+        assertGrade(POINTING, Technique.POINTING);
+        assertGrade(X_WING, Technique.X_WING);
+    }
+
+    @Test
+    void leavesHarderPuzzlesUnsolved() {
+        Grade grade = grader.grade(board(INKALA));
+        assertFalse(grade.isSolved());
+    }
+
+    @Test
+    void gradesALastCellAsOneNakedSingle() {
+        Board board = board(SINGLES);
+        assertTrue(Engine.BACKTRACKING.create(Geometry.NINE).solve(board));
+        board.unplace(40);
+
+        Grade grade = grader.grade(board);
+        assertTrue(grade.isSolved());
+        assertEquals(Technique.NAKED_SINGLE, grade.getHardest());
+        assertEquals(1, grade.getSteps());
+        assertEquals(Technique.NAKED_SINGLE.getWeight(), grade.getScore());
+    }
+
+    @Test
+    void neverSolvesAPuzzleWithSeveralSolutions() {
+        Solver solver = Engine.DANCING_LINKS.create(Geometry.NINE);
+        for (long seed = 0; seed < 10; seed++) {
+            Sudoku sudoku = new Sudoku(seed, Geometry.NINE, Difficulty.HARD);
+            assertTrue(grader.grade(sudoku).getSteps() > 0);
+
+            Board board = new Board(Geometry.NINE);
+            for (int cell = 0; cell < 81; cell++) {
+                int row = Geometry.NINE.rowOf(cell);
+                int col = Geometry.NINE.colOf(cell);
+                if (sudoku.isGiven(row, col)) {
+                    board.place(cell, sudoku.getNumber(row, col));
+                }
+            }
+            for (int cell = 0; cell < 81 && solver.countSolutions(board, 2) == 1; cell++) {
+                if (board.get(cell) != 0) {
+                    board.unplace(cell);
+                }
+            }
+
+            assertEquals(2, solver.countSolutions(board, 2));
+            assertFalse(grader.grade(board).isSolved(), "seed " + seed);
+        }
+    }
+
+    private void assertGrade(String puzzle, Technique hardest) {
+        Grade grade = grader.grade(board(puzzle));
+        assertTrue(grade.isSolved(), puzzle);
+        assertEquals(hardest, grade.getHardest(), puzzle);
+    }
+
+    /**
+     * @param puzzle A 9x9 puzzle, row by row, with '.' or '0' for the empty cells.
+     * @return The board of its givens.
+     */
+    private static Board board(String puzzle) {
+        Board board = new Board(Geometry.NINE);
+        for (int cell = 0; cell < puzzle.length(); cell++) {
+            char c = puzzle.charAt(cell);
+            if (c != '.' && c != '0') {
+                board.place(cell, c - '0');
+            }
+        }
+        return board;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.sudoku.models.grading;
+
+import com.example.sudoku.models.Difficulty;
+import com.example.sudoku.models.GameState;
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.Sudoku;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class tests that a {@link HintEngine} only suggests numbers of a solution, and asks to take back the
+ * player's numbers that no solution goes through.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+class HintEngineTest {
+    private static final Geometry GEOMETRY = Geometry.SIX;
+
+    private Sudoku sudoku;
+    private GameState state;
+    private HintEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        sudoku = new Sudoku(7L, GEOMETRY, Difficulty.HARD);
+        state = new GameState(sudoku);
+        engine = new HintEngine(state);
+    }
+
+    @Test
+    void hintsSolveThePuzzle() {
+        for (Hint hint = engine.next(); hint != null; hint = engine.next()) {
+            assertFalse(hint.isRemoval());
+            assertEquals(0, state.get(hint.getCell()));
+            assertEquals(solution(hint.getCell()), hint.getValue(), hint.toString());
+            state.set(hint.getCell(), hint.getValue());
+        }
+        assertTrue(state.isSolved());
+    }
+
+    @Test
+    void takesBackANumberThatRepeats() {
+        int cell = emptyCell();
+        int peer = GEOMETRY.unitCell(GEOMETRY.rowOf(cell), 0) == cell
+                ? GEOMETRY.unitCell(GEOMETRY.rowOf(cell), 1) : GEOMETRY.unitCell(GEOMETRY.rowOf(cell), 0);
+        int value = solution(peer);
+        state.set(cell, value);
+
+        Hint hint = engine.next();
+        assertNotNull(hint);
+        assertTrue(hint.isRemoval());
+        assertEquals(cell, hint.getCell());
+        assertEquals(value, hint.getValue());
+    }
+
+    @Test
+    void takesBackANumberNoSolutionGoesThrough() {
+        int cell = -1;
+        int wrong = 0;
+        for (int c = 0; c < GEOMETRY.getCellCount() && wrong == 0; c++) {
+            if (state.get(c) == 0) {
+                for (int n = 1; n <= GEOMETRY.getSize() && wrong == 0; n++) {
+                    if (n != solution(c) && fits(c, n)) {
+                        cell = c;
+                        wrong = n;
+                    }
+                }
+            }
+        }
+        assertTrue(wrong != 0, "No empty cell allows a wrong number");
+        state.set(cell, wrong);
+        assertEquals(0, state.getConflictCount());
+
+        Hint hint = engine.next();
+        assertNotNull(hint);
+        assertTrue(hint.isRemoval());
+        assertEquals(cell, hint.getCell());
+        assertEquals(wrong, hint.getValue());
+
+        state.set(cell, 0);
+        hint = engine.next();
+        assertNotNull(hint);
+        assertFalse(hint.isRemoval());
+        assertEquals(solution(hint.getCell()), hint.getValue());
+    }
+
+    @Test
+    void givesNothingOnceSolved() {
+        for (int cell = 0; cell < GEOMETRY.getCellCount(); cell++) {
+            if (!state.isGiven(cell)) {
+                state.set(cell, solution(cell));
+            }
+        }
+        assertNull(engine.next());
+    }
+
+    private int solution(int cell) {
+        return sudoku.getNumber(GEOMETRY.rowOf(cell), GEOMETRY.colOf(cell));
+    }
+
+    private int emptyCell() {
+        for (int cell = 0; cell < GEOMETRY.getCellCount(); cell++) {
+            if (state.get(cell) == 0) {
+                return cell;
+            }
+        }
+        throw new IllegalStateException("The puzzle has no empty cell");
+    }
+
+    /**
+     * @return true if the number repeats nothing in the row, column or box of the cell.
+     */
+    private boolean fits(int cell, int n) {
+        int[] units = {GEOMETRY.rowOf(cell), GEOMETRY.getSize() + GEOMETRY.colOf(cell),
+                2 * GEOMETRY.getSize() + GEOMETRY.boxOf(cell)};
+        for (int unit : units) {
+            if (state.getUnitCount(unit, n) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.sudoku.models.io;
+
+import com.example.sudoku.models.Difficulty;
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.Sudoku;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class tests that a {@link MoveJournal} gives back the board and the moves it recorded once closed and
+ * opened again, including from files cut short in the middle of a record or of a snapshot.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+class MoveJournalTest {
+    @TempDir
+    Path directory;
+
+    private Path path;
+    private Sudoku sudoku;
+    private List<Integer> empty;
+    private int[] board;
+    private int played;
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("journal.bin");
+        sudoku = new Sudoku(42L, Geometry.FOUR, Difficulty.EASY);
+        empty = new ArrayList<>();
+        board = new int[Geometry.FOUR.getCellCount()];
+        for (int cell = 0; cell < board.length; cell++) {
+            int row = Geometry.FOUR.rowOf(cell);
+            int col = Geometry.FOUR.colOf(cell);
+            if (sudoku.isGiven(row, col)) {
+                board[cell] = sudoku.getNumber(row, col);
+            } else {
+                empty.add(cell);
+            }
+        }
+    }
+
+    @Test
+    void roundTripsMovesUndoAndRedo() throws IOException {
+        int[] givens = board.clone();
+        try (MoveJournal journal = MoveJournal.create(path, sudoku)) {
+            play(journal, 5);
+            assertEquals(cellOf(4), journal.undo());
+            assertEquals(cellOf(3), journal.undo());
+            assertEquals(cellOf(3), journal.redo());
+        }
+
+        int[] afterFive = board.clone();
+        board[cellOf(4)] = 0;
+        try (MoveJournal journal = MoveJournal.open(path)) {
+            assertEquals(sudoku.getId(), journal.getSudoku().getId());
+            assertBoard(journal);
+            assertTrue(journal.canRedo());
+            assertEquals(cellOf(4), journal.redo());
+            board = afterFive;
+            assertBoard(journal);
+
+            for (int i = 0; i < 5; i++) {
+                journal.undo();
+            }
+            assertFalse(journal.canUndo());
+            board = givens.clone();
+            assertBoard(journal);
+
+            journal.redo();
+            journal.record(cellOf(1), board[cellOf(1)] % 4 + 1);
+            assertFalse(journal.canRedo());
+        }
+
+        try (MoveJournal journal = MoveJournal.open(path)) {
+            assertEquals(afterFive[cellOf(0)], journal.get(cellOf(0)));
+            assertEquals(givens[cellOf(1)] % 4 + 1, journal.get(cellOf(1)));
+            assertFalse(journal.canRedo());
+            assertEquals(cellOf(1), journal.undo());
+            assertEquals(cellOf(0), journal.undo());
+            assertFalse(journal.canUndo());
+        }
+    }
+
+    @Test
+    void replaysFromTheLastSnapshot() throws IOException {
+        int moves = 2 * MoveJournal.SNAPSHOT_INTERVAL + 44;
+        try (MoveJournal journal = MoveJournal.create(path, sudoku)) {
+            play(journal, moves);
+            assertBoard(journal);
+        }
+
+        try (MoveJournal journal = MoveJournal.open(path)) {
+            assertBoard(journal);
+            assertEquals(headerSize() + 2 * MoveJournal.SNAPSHOT_INTERVAL * (long) MoveJournal.RECORD_SIZE,
+                    snapshotOffset() - snapshotSize());
+
+            int undone = 0;
+            while (journal.undo() >= 0) {
+                undone++;
+            }
+            assertEquals(moves - 2 * MoveJournal.SNAPSHOT_INTERVAL, undone);
+        }
+    }
+
+    @Test
+    void dropsARecordCutShort() throws IOException {
+        int[] afterNine;
+        try (MoveJournal journal = MoveJournal.create(path, sudoku)) {
+            play(journal, 9);
+            afterNine = board.clone();
+            play(journal, 1);
+        }
+        long size = Files.size(path);
+        truncate(size - 3);
+
+        board = afterNine;
+        try (MoveJournal journal = MoveJournal.open(path)) {
+            assertBoard(journal);
+            assertEquals(size - MoveJournal.RECORD_SIZE, Files.size(path));
+            play(journal, 1);
+        }
+
+        try (MoveJournal journal = MoveJournal.open(path)) {
+            assertBoard(journal);
+            assertEquals(size, Files.size(path));
+        }
+    }
+
+    @Test
+    void replaysEverythingWhenTheSnapshotIsCutShort() throws IOException {
+        try (MoveJournal journal = MoveJournal.create(path, sudoku)) {
+            play(journal, MoveJournal.SNAPSHOT_INTERVAL);
+        }
+        long offset = snapshotOffset();
+        assertEquals(offset + snapshotSize(), Files.size(path));
+        truncate(offset + MoveJournal.RECORD_SIZE + 2);
+
+        try (MoveJournal journal = MoveJournal.open(path)) {
+            assertBoard(journal);
+            assertEquals(offset, Files.size(path));
+            assertTrue(journal.canUndo());
+            play(journal, 3);
+        }
+
+        try (MoveJournal journal = MoveJournal.open(path)) {
+            assertBoard(journal);
+        }
+    }
+
+    /**
+     * Records moves that cycle over the empty cells, each changing the number of its cell.
+     * @param journal The journal.
+     * @param count Number of moves.
+     * @throws IOException if the journal cannot be written.
+     */
+    private void play(MoveJournal journal, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            int cell = cellOf(played++);
+            board[cell] = board[cell] % Geometry.FOUR.getSize() + 1;
+            journal.record(cell, board[cell]);
+        }
+    }
+
+    /**
+     * @param move Index of a move made by {@link #play(MoveJournal, int)}.
+     * @return The cell the move changed.
+     */
+    private int cellOf(int move) {
+        return empty.get(move % empty.size());
+    }
+
+    private void assertBoard(MoveJournal journal) {
+        int[] actual = new int[board.length];
+        for (int cell = 0; cell < actual.length; cell++) {
+            actual[cell] = journal.get(cell);
+        }
+        assertArrayEquals(board, actual);
+    }
+
+    private long snapshotOffset() throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer offset = ByteBuffer.allocate(Long.BYTES);
+            channel.read(offset, MoveJournal.SNAPSHOT_OFFSET);
+            return offset.getLong(0);
+        }
+    }
+
+    private void truncate(long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    private int headerSize() {
+        int cells = board.length;
+        return (MoveJournal.PUZZLE_OFFSET + cells + (cells + 7) / 8 + 7) & -8;
+    }
+
+    private int snapshotSize() {
+        return MoveJournal.RECORD_SIZE + ((board.length + 7) & -8);
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.sudoku.models.io;
+
+import com.example.sudoku.models.Difficulty;
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.Sudoku;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * This class tests that a {@link PuzzlePool} reads back what a {@link PuzzlePoolWriter} wrote, from a file
+ * or from memory, and that it rejects or trims files cut short.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+class PuzzlePoolTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripsPackedSolutions() throws IOException {
+        for (Geometry geometry : new Geometry[] {Geometry.FOUR, Geometry.SIX, Geometry.NINE}) {
+            List<Sudoku> puzzles = new ArrayList<>();
+            for (Difficulty difficulty : Difficulty.values()) {
+                puzzles.add(new Sudoku(difficulty.ordinal() * 31L + 7, geometry, difficulty));
+            }
+            puzzles.add(new Sudoku(geometry));
+
+            assertRoundTrip(geometry, puzzles);
+        }
+    }
+
+    @Test
+    void roundTripsByteSolutions() throws IOException {
+        Geometry geometry = Geometry.TWENTY_FIVE;
+        SplittableRandom rand = new SplittableRandom(3);
+        List<Sudoku> puzzles = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            BitSet givens = new BitSet();
+            for (int cell = 0; cell < geometry.getCellCount(); cell++) {
+                if (rand.nextBoolean()) {
+                    givens.set(cell);
+                }
+            }
+            puzzles.add(new Sudoku(geometry, patternGrid(geometry, i), givens, rand.nextLong(), Difficulty.MEDIUM));
+        }
+
+        assertRoundTrip(geometry, puzzles);
+    }
+
+    @Test
+    void rejectsACutHeader() throws IOException {
+        Path path = write(Geometry.FOUR, List.of(new Sudoku(1L, Geometry.FOUR, Difficulty.EASY)));
+        byte[] data = Files.readAllBytes(path);
+        truncate(path, PoolFormat.HEADER_SIZE - 1);
+
+        assertThrows(IOException.class, () -> new PuzzlePool(path));
+        assertThrows(IOException.class,
+                () -> new PuzzlePool(ByteBuffer.wrap(data, 0, PoolFormat.HEADER_SIZE - 1), "cut"));
+    }
+
+    @Test
+    void rejectsAnotherFile() throws IOException {
+        Path path = directory.resolve("other.bin");
+        Files.write(path, new byte[PoolFormat.HEADER_SIZE + 64]);
+
+        assertThrows(IOException.class, () -> new PuzzlePool(path));
+    }
+
+    @Test
+    void rejectsAnUnsupportedBoxShape() throws IOException {
+        Path path = write(Geometry.FOUR, List.of(new Sudoku(1L, Geometry.FOUR, Difficulty.EASY)));
+        byte[] data = Files.readAllBytes(path);
+        data[6] = 0;
+
+        assertThrows(IOException.class, () -> new PuzzlePool(ByteBuffer.wrap(data), "zero rows"));
+        data[6] = 9;
+        data[7] = 9;
+        assertThrows(IOException.class, () -> new PuzzlePool(ByteBuffer.wrap(data), "81 numbers"));
+
+        Files.write(path, data);
+        assertThrows(IOException.class, () -> new PuzzlePool(path));
+    }
+
+    @Test
+    void dropsACutLastRecord() throws IOException {
+        Geometry geometry = Geometry.SIX;
+        List<Sudoku> puzzles = new ArrayList<>();
+        for (long seed = 0; seed < 3; seed++) {
+            puzzles.add(new Sudoku(seed, geometry, Difficulty.HARD));
+        }
+        Path path = write(geometry, puzzles);
+        int recordSize = new PoolFormat(geometry).recordSize;
+        truncate(path, PoolFormat.HEADER_SIZE + 2L * recordSize + recordSize / 2);
+
+        try (PuzzlePool pool = new PuzzlePool(path)) {
+            assertEquals(2, pool.size());
+            assertEquals(puzzles.get(1).getId(), pool.get(1).getId());
+            assertThrows(IndexOutOfBoundsException.class, () -> pool.get(2));
+        }
+    }
+
+    /**
+     * Writes the puzzles, then checks every field of every record both through the file and from memory.
+     */
+    private void assertRoundTrip(Geometry geometry, List<Sudoku> puzzles) throws IOException {
+        Path path = write(geometry, puzzles);
+        try (PuzzlePool pool = new PuzzlePool(path)) {
+            assertPool(geometry, puzzles, pool);
+        }
+        assertPool(geometry, puzzles, new PuzzlePool(ByteBuffer.wrap(Files.readAllBytes(path)), path.toString()));
+    }
+
+    private static void assertPool(Geometry geometry, List<Sudoku> puzzles, PuzzlePool pool) {
+        assertEquals(geometry, pool.getGeometry());
+        assertEquals(puzzles.size(), pool.size());
+
+        for (int k = 0; k < puzzles.size(); k++) {
+            Sudoku expected = puzzles.get(k);
+            Sudoku read = pool.get(k);
+            String name = geometry + " puzzle " + k;
+
+            assertEquals(expected.getSeed(), pool.getSeed(k), name);
+            assertEquals(expected.getDifficulty(), pool.getDifficulty(k), name);
+            assertEquals(expected.getGivenCount(), read.getGivenCount(), name);
+            for (int cell = 0; cell < geometry.getCellCount(); cell++) {
+                int row = geometry.rowOf(cell);
+                int col = geometry.colOf(cell);
+                assertEquals(expected.getNumber(row, col), pool.getNumber(k, cell), name + " cell " + cell);
+                assertEquals(expected.isGiven(row, col), pool.isGiven(k, cell), name + " cell " + cell);
+                assertEquals(expected.getNumber(row, col), read.getNumber(row, col), name + " cell " + cell);
+            }
+        }
+    }
+
+    private Path write(Geometry geometry, List<Sudoku> puzzles) throws IOException {
+        Path path = directory.resolve(geometry + ".pool");
+        try (PuzzlePoolWriter writer = new PuzzlePoolWriter(path, geometry)) {
+            for (Sudoku sudoku : puzzles) {
+                writer.append(sudoku);
+            }
+            assertEquals(puzzles.size(), writer.getCount());
+        }
+        return path;
+    }
+
+    private static void truncate(Path path, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    /**
+     * @param geometry Shape of the grid.
+     * @param shift Rotation of the numbers, so that grids differ.
+     * @return A complete grid built from the shifted pattern of the boxes.
+     */
+    private static byte[] patternGrid(Geometry geometry, int shift) {
+        int size = geometry.getSize();
+        byte[] grid = new byte[geometry.getCellCount()];
+        for (int cell = 0; cell < grid.length; cell++) {
+            int row = geometry.rowOf(cell);
+            int col = geometry.colOf(cell);
+            int n = (row % geometry.getBoxRows()) * geometry.getBoxCols() + row / geometry.getBoxRows() + col;
+            grid[cell] = (byte) ((n + shift) % size + 1);
+        }
+        return grid;
+    }
+}
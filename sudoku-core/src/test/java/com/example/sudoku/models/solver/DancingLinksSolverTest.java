@@ -0,0 +1,120 @@
+package com.example.sudoku.models.solver;
+
+import com.example.sudoku.models.Board;
+import com.example.sudoku.models.Difficulty;
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.Sudoku;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class tests that the dancing-links engine counts and finds the same solutions as backtracking, on
+ * boards with none, one and many solutions.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+class DancingLinksSolverTest {
+    private static final Geometry[] GEOMETRIES = {Geometry.FOUR, Geometry.SIX, Geometry.NINE};
+    private static final int LIMIT = 50;
+
+    @Test
+    void countsEveryFourByFourGrid() {
+        Board empty = new Board(Geometry.FOUR);
+        assertEquals(288, Engine.DANCING_LINKS.create(Geometry.FOUR).countSolutions(empty, 1000));
+        assertEquals(288, Engine.BACKTRACKING.create(Geometry.FOUR).countSolutions(empty, 1000));
+    }
+
+    @Test
+    void countsLikeBacktracking() {
+        SplittableRandom rand = new SplittableRandom(11);
+        for (Geometry geometry : GEOMETRIES) {
+            Solver links = Engine.DANCING_LINKS.create(geometry);
+            Solver backtracking = Engine.BACKTRACKING.create(geometry);
+
+            for (int i = 0; i < 5; i++) {
+                Board board = puzzle(geometry, rand.nextLong());
+                assertEquals(1, links.countSolutions(board, LIMIT), geometry + " puzzle " + i);
+                assertEquals(1, backtracking.countSolutions(board, LIMIT));
+
+                for (int removed = 0; removed < 4; removed++) {
+                    unplaceRandomGiven(board, rand);
+                    assertEquals(backtracking.countSolutions(board, LIMIT), links.countSolutions(board, LIMIT),
+                            geometry + " puzzle " + i + " without " + (removed + 1) + " givens");
+                }
+            }
+        }
+    }
+
+    @Test
+    void findsNoSolutionWhereThereIsNone() {
+        for (Geometry geometry : GEOMETRIES) {
+            Board board = puzzle(geometry, 5);
+            Board solved = new Board(geometry);
+            solved.copyFrom(board);
+            assertTrue(Engine.BACKTRACKING.create(geometry).solve(solved));
+
+            boolean placed = false;
+            for (int cell = 0; cell < geometry.getCellCount() && !placed; cell++) {
+                for (int n = 1; n <= geometry.getSize() && !placed; n++) {
+                    if (board.get(cell) == 0 && n != solved.get(cell) && board.isValid(cell, n)) {
+                        board.place(cell, n);
+                        placed = true;
+                    }
+                }
+            }
+            assertTrue(placed);
+
+            Solver links = Engine.DANCING_LINKS.create(geometry);
+            assertEquals(0, links.countSolutions(board, LIMIT), geometry.toString());
+            assertEquals(0, Engine.BACKTRACKING.create(geometry).countSolutions(board, LIMIT));
+            assertFalse(links.solve(board));
+        }
+    }
+
+    @Test
+    void solvesIntoTheUniqueSolution() {
+        for (Geometry geometry : GEOMETRIES) {
+            Board board = puzzle(geometry, 3);
+            Board expected = new Board(geometry);
+            expected.copyFrom(board);
+            assertTrue(Engine.BACKTRACKING.create(geometry).solve(expected));
+
+            assertTrue(Engine.DANCING_LINKS.create(geometry).solve(board));
+            assertEquals(geometry.getCellCount(), board.getFilled());
+            for (int cell = 0; cell < geometry.getCellCount(); cell++) {
+                assertEquals(expected.get(cell), board.get(cell), geometry + " cell " + cell);
+            }
+        }
+    }
+
+    /**
+     * @param geometry Shape of the puzzle.
+     * @param seed Seed of the puzzle.
+     * @return The givens of a puzzle with a single solution.
+     */
+    private static Board puzzle(Geometry geometry, long seed) {
+        Sudoku sudoku = new Sudoku(seed, geometry, Difficulty.HARD);
+        Board board = new Board(geometry);
+        for (int cell = 0; cell < geometry.getCellCount(); cell++) {
+            int row = geometry.rowOf(cell);
+            int col = geometry.colOf(cell);
+            if (sudoku.isGiven(row, col)) {
+                board.place(cell, sudoku.getNumber(row, col));
+            }
+        }
+        return board;
+    }
+
+    private static void unplaceRandomGiven(Board board, SplittableRandom rand) {
+        int cell;
+        do {
+            cell = rand.nextInt(board.getGeometry().getCellCount());
+        } while (board.get(cell) == 0);
+        board.unplace(cell);
+    }
+}
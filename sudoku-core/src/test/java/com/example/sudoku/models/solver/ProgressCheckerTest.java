@@ -0,0 +1,99 @@
+package com.example.sudoku.models.solver;
+
+import com.example.sudoku.models.Difficulty;
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.Sudoku;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class tests that a {@link ProgressChecker} finds repeated numbers and grids that can no longer be
+ * completed, and rejects grids that do not fit its geometry.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+class ProgressCheckerTest {
+    private static final Geometry GEOMETRY = Geometry.SIX;
+
+    private final ProgressChecker checker = new ProgressChecker(GEOMETRY);
+    private byte[] solution;
+    private byte[] puzzle;
+
+    @BeforeEach
+    void setUp() {
+        Sudoku sudoku = new Sudoku(4L, GEOMETRY, Difficulty.MEDIUM);
+        solution = new byte[GEOMETRY.getCellCount()];
+        puzzle = new byte[solution.length];
+        for (int cell = 0; cell < solution.length; cell++) {
+            int row = GEOMETRY.rowOf(cell);
+            int col = GEOMETRY.colOf(cell);
+            solution[cell] = (byte) sudoku.getNumber(row, col);
+            puzzle[cell] = sudoku.isGiven(row, col) ? solution[cell] : 0;
+        }
+    }
+
+    @Test
+    void acceptsThePuzzleAndItsSolution() {
+        Progress progress = checker.check(puzzle);
+        assertTrue(progress.isCompletable());
+        assertEquals(0, progress.getConflictCount());
+
+        progress = checker.check(solution);
+        assertTrue(progress.isCompletable());
+        assertEquals(solution.length, progress.getFilled());
+    }
+
+    @Test
+    void marksRepeatedNumbers() {
+        int cell = firstEmpty();
+        int peer = GEOMETRY.unitCell(GEOMETRY.rowOf(cell), GEOMETRY.colOf(cell) == 0 ? 1 : 0);
+        puzzle[cell] = solution[peer];
+        puzzle[peer] = solution[peer];
+
+        Progress progress = checker.check(puzzle);
+        assertFalse(progress.isCompletable());
+        assertTrue(progress.isConflicting(cell));
+        assertTrue(progress.isConflicting(peer));
+        assertEquals(2, progress.getConflictCount());
+
+        puzzle[cell] = 0;
+        assertEquals(0, checker.check(puzzle).getConflictCount());
+    }
+
+    @Test
+    void findsAGridThatCannotBeCompleted() {
+        int cell = firstEmpty();
+        for (int n = 1; n <= GEOMETRY.getSize(); n++) {
+            puzzle[cell] = (byte) n;
+            Progress progress = checker.check(puzzle);
+            if (progress.getConflictCount() == 0) {
+                assertEquals(n == solution[cell], progress.isCompletable(), "number " + n);
+            }
+        }
+    }
+
+    @Test
+    void rejectsGridsOfAnotherShape() {
+        assertThrows(IllegalArgumentException.class, () -> checker.check(new byte[GEOMETRY.getCellCount() - 1]));
+        assertThrows(IllegalArgumentException.class, () -> checker.check(new byte[Geometry.NINE.getCellCount()]));
+
+        puzzle[firstEmpty()] = (byte) (GEOMETRY.getSize() + 1);
+        assertThrows(IllegalArgumentException.class, () -> checker.check(puzzle));
+        puzzle[firstEmpty()] = -1;
+        assertThrows(IllegalArgumentException.class, () -> checker.check(puzzle));
+    }
+
+    private int firstEmpty() {
+        for (int cell = 0; cell < puzzle.length; cell++) {
+            if (puzzle[cell] == 0) {
+                return cell;
+            }
+        }
+        throw new IllegalStateException("The puzzle has no empty cell");
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.sudoku.models.validation;
+
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.Sudoku;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class tests that the vector and scalar validators agree with each other and with the board by board
+ * check, on correct and broken boards whose last block is only partly filled.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+class BatchValidatorTest {
+    private static final Geometry[] GEOMETRIES = {
+            Geometry.FOUR, Geometry.SIX, Geometry.NINE, Geometry.TWELVE, Geometry.SIXTEEN
+    };
+
+    @Test
+    void createsTheVectorValidatorWhenTheModuleIsLoaded() {
+        assertTrue(BatchValidator.isVectorAvailable(), "Run the tests with --add-modules jdk.incubator.vector");
+        assertInstanceOf(VectorBatchValidator.class, BatchValidator.create(Geometry.NINE));
+        assertInstanceOf(ScalarBatchValidator.class, BatchValidator.create(Geometry.TWENTY_FIVE));
+    }
+
+    @Test
+    void vectorAndScalarAgree() {
+        SplittableRandom rand = new SplittableRandom(23);
+        for (Geometry geometry : GEOMETRIES) {
+            BatchValidator vector = new VectorBatchValidator(geometry);
+            BatchValidator scalar = new ScalarBatchValidator(geometry);
+            int count = 2 * vector.getBlockSize() + 5;
+            boolean[] expected = new boolean[count];
+            byte[] boards = boards(geometry, count, expected, rand);
+
+            boolean[] oneByOne = new boolean[count];
+            int valid = scalar.validate(boards, count, oneByOne);
+            assertArrayEquals(expected, oneByOne, geometry.toString());
+
+            for (BatchValidator validator : new BatchValidator[] {vector, scalar}) {
+                byte[] blocks = new byte[validator.packedLength(count)];
+                validator.pack(boards, count, blocks);
+
+                boolean[] results = new boolean[count];
+                assertEquals(valid, validator.validateBlocks(blocks, count, results), geometry + " " + validator);
+                assertArrayEquals(expected, results, geometry + " " + validator);
+            }
+        }
+    }
+
+    @Test
+    void checksASingleShortBlock() {
+        Geometry geometry = Geometry.NINE;
+        BatchValidator vector = new VectorBatchValidator(geometry);
+        boolean[] expected = new boolean[3];
+        byte[] boards = boards(geometry, 3, expected, new SplittableRandom(5));
+        byte[] blocks = new byte[vector.packedLength(3)];
+        vector.pack(boards, 3, blocks);
+
+        boolean[] results = new boolean[3];
+        vector.validateBlocks(blocks, 3, results);
+        assertArrayEquals(expected, results);
+    }
+
+    /**
+     * Builds complete boards, breaking about half of them in one of several ways.
+     * @param geometry Shape of the boards.
+     * @param count Number of boards.
+     * @param valid Receives whether each board is correct.
+     * @param rand Source of the choices.
+     * @return The boards, board k starting at k * cells.
+     */
+    private static byte[] boards(Geometry geometry, int count, boolean[] valid, SplittableRandom rand) {
+        int cells = geometry.getCellCount();
+        int size = geometry.getSize();
+        Sudoku sudoku = new Sudoku(geometry);
+        byte[] grid = new byte[cells];
+        for (int cell = 0; cell < cells; cell++) {
+            grid[cell] = (byte) sudoku.getNumber(geometry.rowOf(cell), geometry.colOf(cell));
+        }
+
+        byte[] boards = new byte[count * cells];
+        for (int k = 0; k < count; k++) {
+            int[] labels = new int[size + 1];
+            for (int n = 1; n <= size; n++) {
+                labels[n] = n;
+            }
+            for (int n = size; n > 1; n--) {
+                int m = 1 + rand.nextInt(n);
+                int swap = labels[n];
+                labels[n] = labels[m];
+                labels[m] = swap;
+            }
+            for (int cell = 0; cell < cells; cell++) {
+                boards[k * cells + cell] = (byte) labels[grid[cell]];
+            }
+
+            int cell = k * cells + rand.nextInt(cells);
+            valid[k] = true;
+            switch (k % 6) {
+                case 1 -> boards[cell] = 0;
+                case 2 -> boards[cell] = (byte) (size + 1);
+                case 3 -> boards[cell] = -1;
+                case 4 -> boards[cell] = (byte) (boards[cell] % size + 1);
+                case 5 -> {
+                    int other = k * cells + rand.nextInt(cells);
+                    byte swap = boards[cell];
+                    boards[cell] = boards[other];
+                    boards[other] = swap;
+                    valid[k] = boards[cell] == boards[other];
+                }
+                default -> { }
+            }
+            if (k % 6 >= 1 && k % 6 <= 4) {
+                valid[k] = false;
+            }
+        }
+        return boards;
+    }
+}
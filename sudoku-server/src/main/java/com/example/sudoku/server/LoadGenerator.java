@@ -0,0 +1,146 @@
+package com.example.sudoku.server;
+
+import com.example.sudoku.models.Difficulty;
+import com.example.sudoku.models.Geometry;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class measures the latency of the puzzle service. Every client thread sends its share of the requests
+ * one after the other and records how long each one took; at the end the percentiles of the successful
+ * requests are printed, with the 503 answers of an empty pool counted apart from them. Without
+ * {@code --url} it starts a {@link PuzzleServer} on a free local port and measures that one, after waiting
+ * for its 9x9 MEDIUM pool to fill.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class LoadGenerator {
+    private static final int POOL_CAPACITY = 256;
+    private static final long WARM_UP_MILLIS = 60_000;
+
+    /**
+     * Main method of the load generator.
+     * @param args {@code --url http://host:port}, {@code --path /generate?geometry=3x3},
+     *             {@code --body PUZZLE} to send POST requests, {@code --clients N} and {@code --requests N}.
+     * @throws IOException if the embedded server cannot start.
+     * @throws InterruptedException if the thread is interrupted while waiting for the clients.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String url = null;
+        String path = "/generate?geometry=3x3&difficulty=MEDIUM";
+        String body = null;
+        int clients = 8;
+        int requests = 10_000;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--url" -> url = args[i + 1];
+                case "--path" -> path = args[i + 1];
+                case "--body" -> body = args[i + 1];
+                case "--clients" -> clients = Integer.parseInt(args[i + 1]);
+                case "--requests" -> requests = Integer.parseInt(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        PuzzleServer server = null;
+        if (url == null) {
+            PuzzlePools pools = new PuzzlePools(POOL_CAPACITY);
+            pools.warm(Geometry.NINE);
+            PuzzleServer.useNoDelay();
+            server = new PuzzleServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                    PuzzleServer.defaultExecutor(), pools);
+            server.start();
+            url = "http://localhost:" + server.getPort();
+
+            long deadline = System.currentTimeMillis() + WARM_UP_MILLIS;
+            while (pools.available(Geometry.NINE, Difficulty.MEDIUM) < POOL_CAPACITY
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100);
+            }
+        }
+
+        try {
+            run(URI.create(url + path), body, clients, requests);
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    /**
+     * Sends the requests and prints the latency percentiles.
+     * @param uri Target of the requests.
+     * @param body Body of POST requests, null to send GET requests.
+     * @param clients Number of concurrent client threads.
+     * @param requests Total number of requests.
+     * @throws InterruptedException if the thread is interrupted while waiting for the clients.
+     */
+    private static void run(URI uri, String body, int clients, int requests) throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = (body == null
+                ? HttpRequest.newBuilder(uri).GET()
+                : HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.ofString(body))).build();
+
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger served = new AtomicInteger();
+        AtomicInteger unavailable = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+
+        Thread[] threads = new Thread[clients];
+        long start = System.nanoTime();
+        for (int t = 0; t < clients; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                    long begin = System.nanoTime();
+                    try {
+                        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                        switch (response.statusCode()) {
+                            case 200 -> latencies[served.getAndIncrement()] = System.nanoTime() - begin;
+                            case 503 -> unavailable.incrementAndGet();
+                            default -> errors.incrementAndGet();
+                        }
+                    } catch (IOException e) {
+                        errors.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long[] sorted = Arrays.copyOf(latencies, served.get());
+        Arrays.sort(sorted);
+        System.out.printf("%d requests, %d clients, %d served, %d unavailable, %d errors in %.2f s (%.0f requests/s)%n",
+                requests, clients, sorted.length, unavailable.get(), errors.get(), seconds, requests / seconds);
+        if (sorted.length > 0) {
+            System.out.printf("p50 %.3f ms, p99 %.3f ms, max %.3f ms of the served requests%n",
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1e6);
+        }
+    }
+
+    /**
+     * @param sorted Latencies in nanoseconds, sorted.
+     * @param p The percentile, between 0 and 1.
+     * @return The latency at the percentile, in milliseconds.
+     */
+    private static double percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.sudoku.server;
+
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.Sudoku;
+
+/**
+ * This class converts puzzles to and from the one-line text used by the service: the cells row by row, with
+ * '1' to '9' and then 'A' onwards for the numbers, and '.' or '0' for the empty cells.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+final class PuzzleCodec {
+    private static final Geometry[] GEOMETRIES = {
+            Geometry.FOUR, Geometry.SIX, Geometry.NINE, Geometry.TWELVE, Geometry.SIXTEEN, Geometry.TWENTY_FIVE
+    };
+
+    private PuzzleCodec() {
+    }
+
+    /**
+     * Finds the board of a puzzle from the length of its text.
+     * @param length Number of characters of the puzzle.
+     * @return The geometry of the standard board with that many cells.
+     * @throws IllegalArgumentException if no standard board has that many cells.
+     */
+    static Geometry geometryFor(int length) {
+        for (Geometry geometry : GEOMETRIES) {
+            if (geometry.getCellCount() == length) {
+                return geometry;
+            }
+        }
+        throw new IllegalArgumentException("No board has " + length + " cells");
+    }
+
+    /**
+     * Finds one of the standard boards from its box shape.
+     * @param text The box shape, such as {@code 3x3}.
+     * @return The geometry.
+     * @throws IllegalArgumentException if the text is not the shape of a standard board.
+     */
+    static Geometry geometry(String text) {
+        Geometry parsed = Geometry.parse(text);
+        for (Geometry geometry : GEOMETRIES) {
+            if (geometry.equals(parsed)) {
+                return geometry;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported box shape: " + text);
+    }
+
+    /**
+     * Reads a puzzle.
+     * @param text The puzzle.
+     * @param geometry Shape of the board.
+     * @return The numbers, row by row, 0 meaning empty.
+     * @throws IllegalArgumentException if the text does not describe a board of that geometry.
+     */
+    static byte[] decode(String text, Geometry geometry) {
+        if (text.length() != geometry.getCellCount()) {
+            throw new IllegalArgumentException("A " + geometry + " puzzle has " + geometry.getCellCount() + " cells");
+        }
+
+        byte[] values = new byte[text.length()];
+        for (int cell = 0; cell < values.length; cell++) {
+            char c = text.charAt(cell);
+            if (c == '.' || c == '0') {
+                continue;
+            }
+
+            int n = Character.digit(c, Character.MAX_RADIX);
+            if (n < 1 || n > geometry.getSize()) {
+                throw new IllegalArgumentException("Invalid symbol '" + c + "' at cell " + cell);
+            }
+            values[cell] = (byte) n;
+        }
+        return values;
+    }
+
+    /**
+     * Writes a grid.
+     * @param values The numbers, row by row, 0 meaning empty.
+     * @return The text of the grid.
+     */
+    static String encode(byte[] values) {
+        char[] text = new char[values.length];
+        for (int cell = 0; cell < values.length; cell++) {
+            text[cell] = values[cell] == 0 ? '.' : Character.toUpperCase(Character.forDigit(values[cell], Character.MAX_RADIX));
+        }
+        return new String(text);
+    }
+
+    /**
+     * Writes the givens or the solution of a puzzle.
+     * @param sudoku The puzzle.
+     * @param solution Whether to write every cell instead of the givens only.
+     * @return The text of the grid.
+     */
+    static String encode(Sudoku sudoku, boolean solution) {
+        Geometry geometry = sudoku.getGeometry();
+        byte[] values = new byte[geometry.getCellCount()];
+        for (int cell = 0; cell < values.length; cell++) {
+            int row = geometry.rowOf(cell);
+            int col = geometry.colOf(cell);
+            if (solution || sudoku.isGiven(row, col)) {
+                values[cell] = (byte) sudoku.getNumber(row, col);
+            }
+        }
+        return encode(values);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.sudoku.server;
+
+import com.example.sudoku.models.Difficulty;
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.PuzzlePrefetcher;
+import com.example.sudoku.models.Sudoku;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class keeps one {@link PuzzlePrefetcher} per geometry and difficulty, so requests take puzzles that
+ * were generated in the background. A pool is created on its first request, or ahead of time with
+ * {@link #warm(Geometry)}. Every pool is refilled on one shared set of generator threads, and a request never
+ * generates: when its pool is empty it waits a bounded time for a refill.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class PuzzlePools implements AutoCloseable {
+    private final int capacity;
+    private final ExecutorService generators;
+    private final Map<String, PuzzlePrefetcher> pools = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for the PuzzlePools class, with one generator thread per processor.
+     * @param capacity Number of puzzles kept ready in each pool.
+     */
+    public PuzzlePools(int capacity) {
+        this(capacity, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor for the PuzzlePools class.
+     * @param capacity Number of puzzles kept ready in each pool.
+     * @param threads Number of threads generating puzzles for all the pools.
+     * @throws IllegalArgumentException if the number of threads is not positive.
+     */
+    public PuzzlePools(int capacity, int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Threads must be positive: " + threads);
+        }
+
+        AtomicInteger count = new AtomicInteger();
+        this.capacity = capacity;
+        this.generators = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "puzzle-generator-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts filling the pools of every difficulty of a geometry.
+     * @param geometry Shape of the puzzles.
+     */
+    public void warm(Geometry geometry) {
+        for (Difficulty difficulty : Difficulty.values()) {
+            pool(geometry, difficulty);
+        }
+    }
+
+    /**
+     * Takes a ready puzzle, waiting for a refill if its pool is empty.
+     * @param geometry Shape of the puzzle.
+     * @param difficulty Difficulty of the puzzle.
+     * @param timeout How long to wait.
+     * @param unit Unit of the timeout.
+     * @return A puzzle, or null if none was ready in time.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public Sudoku take(Geometry geometry, Difficulty difficulty, long timeout, TimeUnit unit) throws InterruptedException {
+        return pool(geometry, difficulty).poll(timeout, unit);
+    }
+
+    /**
+     * @param geometry Shape of the puzzles.
+     * @param difficulty Difficulty of the puzzles.
+     * @return Number of puzzles ready in the pool, 0 if it was not created yet.
+     */
+    public int available(Geometry geometry, Difficulty difficulty) {
+        PuzzlePrefetcher pool = pools.get(geometry + "-" + difficulty);
+        return pool == null ? 0 : pool.available();
+    }
+
+    /**
+     * @param geometry Shape of the puzzles.
+     * @param difficulty Difficulty of the puzzles.
+     * @return The pool, created if needed.
+     */
+    private PuzzlePrefetcher pool(Geometry geometry, Difficulty difficulty) {
+        return pools.computeIfAbsent(geometry + "-" + difficulty, key -> new PuzzlePrefetcher(
+                () -> new Sudoku(ThreadLocalRandom.current().nextLong(), geometry, difficulty), capacity, generators));
+    }
+
+    /**
+     * Stops the background generation of every pool.
+     */
+    @Override
+    public void close() {
+        pools.values().forEach(PuzzlePrefetcher::close);
+        generators.shutdownNow();
+    }
+}
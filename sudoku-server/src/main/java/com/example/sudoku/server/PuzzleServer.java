@@ -0,0 +1,455 @@
+package com.example.sudoku.server;
+
+import com.example.sudoku.metrics.Counter;
+import com.example.sudoku.metrics.Histogram;
+import com.example.sudoku.metrics.Metrics;
+import com.example.sudoku.models.Board;
+import com.example.sudoku.models.Difficulty;
+import com.example.sudoku.models.Geometry;
+import com.example.sudoku.models.Sudoku;
+import com.example.sudoku.models.grading.DifficultyGrader;
+import com.example.sudoku.models.grading.Grade;
+import com.example.sudoku.models.solver.Engine;
+import com.example.sudoku.models.solver.SolverContext;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class serves puzzles over HTTP with the JDK's built-in server. It answers these endpoints with JSON:
+ * <ul>
+ *     <li>{@code GET /generate?geometry=3x3&difficulty=MEDIUM} takes a puzzle from the pools, or answers 503 if
+ *     its pool stays empty for {@value #GENERATE_WAIT_MILLIS} ms.</li>
+ *     <li>{@code POST /solve} counts the solutions of the puzzle in the body, up to two, and returns the first.</li>
+ *     <li>{@code POST /grade} grades the puzzle in the body.</li>
+ *     <li>{@code GET /metrics} returns the counters and histograms of the {@link Metrics} registry.</li>
+ *     <li>{@code POST /metrics/enabled} with {@code true} or {@code false} in the body switches collection.</li>
+ * </ul>
+ * Puzzles are written as in {@link PuzzleCodec}; {@code /solve} and {@code /grade} also take them from a
+ * {@code puzzle} query parameter, and infer the geometry from their length unless a {@code geometry} parameter
+ * is given. Only the boards of {@link PuzzleCodec} are accepted, and {@code /generate} serves them up to
+ * 16x16; any other shape is answered with 400. Solvers and graders are not thread-safe: {@code /solve} leases a {@link SolverContext} and
+ * {@code /grade} borrows a grader from a per-geometry stack, both returned when the request is done.
+ * @author Felipe Garcia
+ * @version 1.0
+ */
+public class PuzzleServer implements AutoCloseable {
+    private static final int DEFAULT_PORT = 8080;
+    private static final int DEFAULT_POOL = 32;
+    private static final int SOLUTION_LIMIT = 2;
+
+    /**
+     * How long {@code /generate} waits for a refill of an empty pool before answering 503.
+     */
+    private static final long GENERATE_WAIT_MILLIS = 100;
+
+    /**
+     * Largest board {@code /generate} serves. Carving a 25x25 puzzle takes minutes, far too long to keep a
+     * pool filled.
+     */
+    private static final int MAX_GENERATED_SIZE = 16;
+
+    /**
+     * Without it, small responses sent as separate header and body writes wait for the client's delayed ACK,
+     * adding about 40 ms to every request.
+     */
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final PuzzlePools pools;
+    private final Map<Geometry, Queue<Workspace>> workspaces = new ConcurrentHashMap<>();
+
+    /**
+     * Interface of the endpoints.
+     */
+    @FunctionalInterface
+    private interface Endpoint {
+        /**
+         * Answers a request.
+         * @param params Query parameters.
+         * @param body Request body, empty for GET requests.
+         * @return The JSON response, or null if the request cannot be served now.
+         */
+        String handle(Map<String, String> params, String body);
+    }
+
+    /**
+     * Constructor for the PuzzleServer class. Small responses are only sent without waiting for the client's
+     * delayed ACK if {@link #useNoDelay()} ran before the first server of the JVM was created, or the JVM was
+     * started with {@code -Dsun.net.httpserver.nodelay=true}.
+     * @param address Address and port to listen on, port 0 picking a free one.
+     * @param executor Runs the requests. It is shut down when the server is closed.
+     * @param pools Source of the generated puzzles. It is closed when the server is closed.
+     * @throws IOException if the server cannot bind to the address.
+     */
+    public PuzzleServer(InetSocketAddress address, ExecutorService executor, PuzzlePools pools) throws IOException {
+        this.server = HttpServer.create(address, 0);
+        this.executor = executor;
+        this.pools = pools;
+
+        server.setExecutor(executor);
+        server.createContext("/generate", exchange -> handle(exchange, "GET", this::generate));
+        server.createContext("/solve", exchange -> handle(exchange, "POST", this::solve));
+        server.createContext("/grade", exchange -> handle(exchange, "POST", this::grade));
+        server.createContext("/metrics", exchange -> handle(exchange, "GET", PuzzleServer::metrics));
+        server.createContext("/metrics/enabled", exchange -> handle(exchange, "POST", PuzzleServer::switchMetrics));
+    }
+
+    /**
+     * Creates the executor used when none is given: a virtual thread per request on runtimes that have them,
+     * otherwise a cached pool of platform threads.
+     * @return A new executor.
+     */
+    public static ExecutorService defaultExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * Main method that runs the service until the process is stopped.
+     * @param args {@code --port N}, {@code --pool N} puzzles kept per geometry and difficulty, and
+     *             {@code --warm 2x3,3x3} geometries whose pools are filled at startup.
+     * @throws IOException if the server cannot bind to the port.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = DEFAULT_PORT;
+        int pool = DEFAULT_POOL;
+        String warm = "3x3";
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--port" -> port = Integer.parseInt(args[i + 1]);
+                case "--pool" -> pool = Integer.parseInt(args[i + 1]);
+                case "--warm" -> warm = args[i + 1];
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        PuzzlePools pools = new PuzzlePools(pool);
+        for (String geometry : warm.split(",")) {
+            pools.warm(generated(geometry.strip()));
+        }
+
+        useNoDelay();
+        PuzzleServer server = new PuzzleServer(new InetSocketAddress(port), defaultExecutor(), pools);
+        server.start();
+        System.out.println("Serving puzzles on port " + server.getPort());
+    }
+
+    /**
+     * Turns off Nagle's algorithm on the connections of the JDK's server, unless the
+     * {@code sun.net.httpserver.nodelay} property was set on the command line. The JDK reads the property once,
+     * so this must run before the first server of the JVM is created.
+     */
+    public static void useNoDelay() {
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+    }
+
+    /**
+     * Starts answering requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * @return The port the server listens on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops the server, its executor and its pools.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        pools.close();
+    }
+
+    /**
+     * Takes a puzzle from the pools.
+     * @param params {@code geometry} and {@code difficulty}.
+     * @param body Unused.
+     * @return The puzzle, its solution and its id, or null if its pool stayed empty.
+     */
+    private String generate(Map<String, String> params, String body) {
+        Geometry geometry = generated(params.getOrDefault("geometry", "3x3"));
+        Difficulty difficulty = Difficulty.valueOf(params.getOrDefault("difficulty", "MEDIUM").toUpperCase());
+        Sudoku sudoku;
+        try {
+            sudoku = pools.take(geometry, difficulty, GENERATE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        if (sudoku == null) {
+            return null;
+        }
+
+        return "{\"id\":\"%s\",\"geometry\":\"%s\",\"difficulty\":\"%s\",\"puzzle\":\"%s\",\"solution\":\"%s\"}".formatted(
+                sudoku.getId(), geometry, difficulty, PuzzleCodec.encode(sudoku, false), PuzzleCodec.encode(sudoku, true));
+    }
+
+    /**
+     * Solves a puzzle.
+     * @param params {@code puzzle} when the body is empty, and {@code geometry}.
+     * @param body The puzzle.
+     * @return The number of solutions found, up to two, and the first of them.
+     */
+    private String solve(Map<String, String> params, String body) {
+        String text = puzzleText(params, body);
+        Geometry geometry = geometry(params, text);
+        byte[] values = PuzzleCodec.decode(text, geometry);
+
+        try (SolverContext context = SolverContext.lease(geometry, Engine.DANCING_LINKS)) {
+            if (!context.load(values)) {
+                return "{\"solutions\":0}";
+            }
+
+            int solutions = context.getSolver().countSolutions(context.getBoard(), SOLUTION_LIMIT);
+            if (solutions == 0) {
+                return "{\"solutions\":0}";
+            }
+
+            context.getSolver().solve(context.getBoard());
+            context.getBoard().copyTo(values);
+            return "{\"solutions\":%d,\"unique\":%b,\"solution\":\"%s\"}".formatted(
+                    solutions, solutions == 1, PuzzleCodec.encode(values));
+        }
+    }
+
+    /**
+     * Grades a puzzle.
+     * @param params {@code puzzle} when the body is empty, and {@code geometry}.
+     * @param body The puzzle.
+     * @return The grade.
+     */
+    private String grade(Map<String, String> params, String body) {
+        String text = puzzleText(params, body);
+        Geometry geometry = geometry(params, text);
+        byte[] values = PuzzleCodec.decode(text, geometry);
+
+        Workspace workspace = borrow(geometry);
+        try {
+            if (!workspace.board.load(values)) {
+                throw new IllegalArgumentException("The puzzle repeats a number in a row, column or box");
+            }
+
+            Grade grade = workspace.grader.grade(workspace.board);
+            return "{\"solved\":%b,\"hardest\":%s,\"score\":%d,\"steps\":%d}".formatted(grade.isSolved(),
+                    grade.getHardest() == null ? "null" : "\"" + grade.getHardest() + "\"", grade.getScore(), grade.getSteps());
+        } finally {
+            release(geometry, workspace);
+        }
+    }
+
+    /**
+     * Lists the metrics.
+     * @param params Unused.
+     * @param body Unused.
+     * @return Whether collection is on, every counter and every histogram.
+     */
+    private static String metrics(Map<String, String> params, String body) {
+        StringBuilder json = new StringBuilder("{\"enabled\":").append(Metrics.isEnabled()).append(",\"counters\":{");
+        String separator = "";
+        for (Counter counter : Metrics.getCounters().values()) {
+            json.append(separator).append('"').append(counter.getName()).append("\":").append(counter.get());
+            separator = ",";
+        }
+
+        json.append("},\"histograms\":{");
+        separator = "";
+        for (Histogram histogram : Metrics.getHistograms().values()) {
+            json.append(separator).append("\"%s\":{\"count\":%d,\"mean\":%d,\"p50\":%d,\"p90\":%d,\"p99\":%d,\"max\":%d}".formatted(
+                    histogram.getName(), histogram.getCount(), Math.round(histogram.getMean()), histogram.getPercentile(0.50),
+                    histogram.getPercentile(0.90), histogram.getPercentile(0.99), histogram.getMax()));
+            separator = ",";
+        }
+        return json.append("}}").toString();
+    }
+
+    /**
+     * Switches metrics collection on or off.
+     * @param params Unused.
+     * @param body {@code true} or {@code false}.
+     * @return Whether collection is on.
+     * @throws IllegalArgumentException if the body is neither.
+     */
+    private static String switchMetrics(Map<String, String> params, String body) {
+        switch (body.strip()) {
+            case "true" -> Metrics.setEnabled(true);
+            case "false" -> Metrics.setEnabled(false);
+            default -> throw new IllegalArgumentException("Expected true or false");
+        }
+        return "{\"enabled\":" + Metrics.isEnabled() + "}";
+    }
+
+    /**
+     * @param params Query parameters.
+     * @param body Request body.
+     * @return The puzzle of the request.
+     * @throws IllegalArgumentException if the request has no puzzle.
+     */
+    private static String puzzleText(Map<String, String> params, String body) {
+        String text = body.isBlank() ? params.getOrDefault("puzzle", "") : body;
+        if (text.isBlank()) {
+            throw new IllegalArgumentException("Missing puzzle");
+        }
+        return text.strip();
+    }
+
+    /**
+     * @param params Query parameters.
+     * @param text The puzzle.
+     * @return The geometry named by the parameters, or the one matching the length of the puzzle.
+     */
+    private static Geometry geometry(Map<String, String> params, String text) {
+        String geometry = params.get("geometry");
+        return geometry == null ? PuzzleCodec.geometryFor(text.length()) : PuzzleCodec.geometry(geometry);
+    }
+
+    /**
+     * @param text A box shape.
+     * @return The geometry, if {@code /generate} serves it.
+     * @throws IllegalArgumentException if the shape is not a standard board or too large to generate.
+     */
+    private static Geometry generated(String text) {
+        Geometry geometry = PuzzleCodec.geometry(text);
+        if (geometry.getSize() > MAX_GENERATED_SIZE) {
+            throw new IllegalArgumentException(geometry + " puzzles are too slow to generate");
+        }
+        return geometry;
+    }
+
+    /**
+     * Takes an idle workspace of a geometry, creating one if none is idle.
+     * @param geometry Shape of the puzzles.
+     * @return The workspace, to be given back with {@link #release(Geometry, Workspace)}.
+     */
+    private Workspace borrow(Geometry geometry) {
+        Workspace workspace = workspaces.computeIfAbsent(geometry, g -> new ConcurrentLinkedQueue<>()).poll();
+        return workspace == null ? new Workspace(geometry) : workspace;
+    }
+
+    /**
+     * Gives a workspace back.
+     * @param geometry Shape of the puzzles.
+     * @param workspace The workspace.
+     */
+    private void release(Geometry geometry, Workspace workspace) {
+        workspaces.get(geometry).offer(workspace);
+    }
+
+    /**
+     * Runs an endpoint and writes its response: 400 when the endpoint rejects the request with an
+     * IllegalArgumentException, 503 when it returns null because it cannot serve the request now, 500 for any
+     * other failure.
+     * @param exchange The request.
+     * @param method The HTTP method accepted by the endpoint.
+     * @param endpoint The endpoint.
+     * @throws IOException if the response cannot be written.
+     */
+    private static void handle(HttpExchange exchange, String method, Endpoint endpoint) throws IOException {
+        try (exchange) {
+            int status;
+            String response;
+
+            if (!exchange.getRequestMethod().equals(method)) {
+                status = 405;
+                response = error("Use " + method);
+            } else {
+                try {
+                    String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                    response = endpoint.handle(query(exchange), body);
+                    status = 200;
+                    if (response == null) {
+                        status = 503;
+                        response = error("No puzzle ready, retry later");
+                        exchange.getResponseHeaders().set("Retry-After", "1");
+                    }
+                } catch (IllegalArgumentException e) {
+                    status = 400;
+                    response = error(e.getMessage());
+                } catch (RuntimeException e) {
+                    status = 500;
+                    response = error(e.toString());
+                }
+            }
+
+            byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * @param message The error message.
+     * @return The JSON of an error.
+     */
+    private static String error(String message) {
+        return "{\"error\":\"" + String.valueOf(message).replace("\\", "\\\\").replace("\"", "\\\"") + "\"}";
+    }
+
+    /**
+     * @param exchange The request.
+     * @return The query parameters of the request.
+     */
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return params;
+        }
+
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    /**
+     * Board and grader used by one request at a time.
+     */
+    private static class Workspace {
+        private final Board board;
+        private final DifficultyGrader grader;
+
+        /**
+         * Constructor for the Workspace class.
+         * @param geometry Shape of the puzzles.
+         */
+        Workspace(Geometry geometry) {
+            this.board = new Board(geometry);
+            this.grader = new DifficultyGrader(geometry);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * Module declaration for the HTTP puzzle service built on the core models.
+ */
+module com.example.sudoku.server {
+    requires com.example.sudoku.core;
+    requires jdk.httpserver;
+    requires java.net.http;
+
+    exports com.example.sudoku.server;
+}